@@ -20,12 +20,16 @@ dependencies {
     // Database connection pooling
     implementation("com.zaxxer:HikariCP:5.1.0")
     implementation("org.xerial:sqlite-jdbc:3.45.3.0")
+    implementation("com.mysql:mysql-connector-j:8.4.0") {
+        exclude(group = "com.google.protobuf") // Only used by the X DevAPI
+    }
 
     // Testing - Use Paper 1.21.1 for MockBukkit compatibility
     // MockBukkit v1.21 is built against 1.21.1-R0.1-SNAPSHOT
     testImplementation("io.papermc.paper:paper-api:1.21.1-R0.1-SNAPSHOT")
     testImplementation("org.mockbukkit.mockbukkit:mockbukkit-v1.21:4.14.0")
     testImplementation("org.junit.jupiter:junit-jupiter:5.11.0")
+    testImplementation("com.h2database:h2:2.2.224") // MySQL-mode stand-in for storage tests
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -56,6 +60,7 @@ tasks {
         // Relocate dependencies to avoid conflicts with other plugins
         relocate("com.zaxxer.hikari", "com.blockworlds.collections.lib.hikari")
         relocate("org.sqlite", "com.blockworlds.collections.lib.sqlite")
+        relocate("com.mysql", "com.blockworlds.collections.lib.mysql")
     }
 
     build {
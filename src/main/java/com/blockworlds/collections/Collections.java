@@ -14,6 +14,7 @@ import com.blockworlds.collections.listener.ItemUseListener;
 import com.blockworlds.collections.listener.LootDropListener;
 import com.blockworlds.collections.listener.MobDropListener;
 import com.blockworlds.collections.listener.PlayerListener;
+import com.blockworlds.collections.listener.PlayerMoveListener;
 import com.blockworlds.collections.manager.CollectionManager;
 import com.blockworlds.collections.manager.DropSourceManager;
 import com.blockworlds.collections.manager.EventManager;
@@ -21,8 +22,10 @@ import com.blockworlds.collections.manager.GoggleManager;
 import com.blockworlds.collections.manager.PlayerDataManager;
 import com.blockworlds.collections.manager.RewardManager;
 import com.blockworlds.collections.manager.SpawnManager;
+import com.blockworlds.collections.manager.WorldActivityTracker;
 import com.blockworlds.collections.manager.ZoneManager;
 import com.blockworlds.collections.recipe.GoggleRecipeManager;
+import com.blockworlds.collections.storage.MySQLStorage;
 import com.blockworlds.collections.storage.SQLiteStorage;
 import com.blockworlds.collections.storage.Storage;
 import com.blockworlds.collections.task.ActionBarPromptTask;
@@ -55,7 +58,9 @@ public class Collections extends JavaPlugin {
     private GoggleManager goggleManager;
     private GoggleRecipeManager goggleRecipeManager;
     private EventManager eventManager;
+    private WorldActivityTracker worldActivityTracker;
     private CollectibleInteractListener collectibleInteractListener;
+    private ChunkListener chunkListener;
 
     @Override
     public void onEnable() {
@@ -67,13 +72,17 @@ public class Collections extends JavaPlugin {
 
         // Initialize managers in dependency order
         this.configManager = new ConfigManager(this);
-        this.storage = new SQLiteStorage(this);
+        this.worldActivityTracker = new WorldActivityTracker(configManager);
+        this.storage = "mysql".equalsIgnoreCase(configManager.getDatabaseType())
+                ? new MySQLStorage(this) : new SQLiteStorage(this);
         this.collectionManager = new CollectionManager(this);
         this.zoneManager = new ZoneManager(this);
         this.playerDataManager = new PlayerDataManager(this, storage);
 
         // Initialize storage (creates tables)
         storage.initialize();
+        playerDataManager.startWriteBehind(configManager.getWriteBehindFlushIntervalMs(),
+                configManager.getWriteBehindFlushThreshold());
 
         // Load collections and zones from YAML files
         collectionManager.loadCollections();
@@ -129,13 +138,15 @@ public class Collections extends JavaPlugin {
 
     private void registerListeners() {
         getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
-        getServer().getPluginManager().registerEvents(new ChunkListener(this), this);
+        this.chunkListener = new ChunkListener(this);
+        getServer().getPluginManager().registerEvents(chunkListener, this);
         this.collectibleInteractListener = new CollectibleInteractListener(this);
         getServer().getPluginManager().registerEvents(collectibleInteractListener, this);
         getServer().getPluginManager().registerEvents(new ItemModifyListener(this), this);
         getServer().getPluginManager().registerEvents(new ItemUseListener(this), this);
         getServer().getPluginManager().registerEvents(new GUIListener(this), this);
         getServer().getPluginManager().registerEvents(new ArmorChangeListener(this), this);
+        getServer().getPluginManager().registerEvents(new PlayerMoveListener(this), this);
 
         // Alternative drop source listeners
         getServer().getPluginManager().registerEvents(new MobDropListener(this), this);
@@ -166,8 +177,9 @@ public class Collections extends JavaPlugin {
             spawnManager.shutdown();
         }
 
-        // Save all player data before shutdown
+        // Save all player data before shutdown (flushes queued writes first)
         if (playerDataManager != null) {
+            playerDataManager.stopWriteBehind();
             try {
                 playerDataManager.saveAll().get();
             } catch (Exception e) {
@@ -201,6 +213,11 @@ public class Collections extends JavaPlugin {
         collectionManager.loadCollections();
         zoneManager.loadZones();
 
+        // Goggle settings may have changed
+        if (goggleManager != null) {
+            goggleManager.invalidateAllVisibility();
+        }
+
         // Rebuild drop source indexes
         if (dropSourceManager != null) {
             dropSourceManager.buildIndexes();
@@ -280,6 +297,10 @@ public class Collections extends JavaPlugin {
         return goggleRecipeManager;
     }
 
+    public WorldActivityTracker getWorldActivityTracker() {
+        return worldActivityTracker;
+    }
+
     public EventManager getEventManager() {
         return eventManager;
     }
@@ -287,4 +308,8 @@ public class Collections extends JavaPlugin {
     public CollectibleInteractListener getCollectibleInteractListener() {
         return collectibleInteractListener;
     }
+
+    public ChunkListener getChunkListener() {
+        return chunkListener;
+    }
 }
@@ -3,11 +3,13 @@ package com.blockworlds.collections.command;
 import com.blockworlds.collections.Collections;
 import com.blockworlds.collections.config.ConfigManager;
 import com.blockworlds.collections.gui.CollectionMenuGUI;
+import com.blockworlds.collections.listener.ChunkListener;
 import com.blockworlds.collections.manager.CollectionManager;
 import com.blockworlds.collections.manager.EventManager;
 import com.blockworlds.collections.manager.GoggleManager;
 import com.blockworlds.collections.manager.PlayerDataManager;
 import com.blockworlds.collections.manager.SpawnManager;
+import com.blockworlds.collections.manager.WorldActivityTracker;
 import com.blockworlds.collections.manager.ZoneManager;
 import com.blockworlds.collections.model.Collectible;
 import com.blockworlds.collections.model.Collection;
@@ -16,6 +18,11 @@ import com.blockworlds.collections.model.CollectionItem;
 import com.blockworlds.collections.model.PlayerProgress;
 import com.blockworlds.collections.model.SpawnZone;
 import com.blockworlds.collections.spawn.SpawnResult;
+import com.blockworlds.collections.storage.CollectibleWriteQueue;
+import com.blockworlds.collections.storage.JdbcStorage;
+import com.blockworlds.collections.storage.StorageExecutor;
+import com.blockworlds.collections.storage.WriteBehindJournal;
+import com.blockworlds.collections.task.ParticleTask;
 import com.blockworlds.collections.util.ItemBuilder;
 import com.blockworlds.collections.util.PDCKeys;
 import com.mojang.brigadier.Command;
@@ -149,6 +156,11 @@ public class CollectionsCommand {
                         .requires(src -> src.getSender().hasPermission("collections.admin"))
                         .executes(this::toggleDebug))
 
+                // /collections perf - show runtime performance counters
+                .then(Commands.literal("perf")
+                        .requires(src -> src.getSender().hasPermission("collections.admin"))
+                        .executes(this::showPerformance))
+
                 // /collections event - event management
                 .then(Commands.literal("event")
                         .requires(src -> src.getSender().hasPermission("collections.admin"))
@@ -182,9 +194,8 @@ public class CollectionsCommand {
             return Command.SINGLE_SUCCESS;
         }
 
-        // Open the collection journal GUI
-        CollectionMenuGUI gui = new CollectionMenuGUI(plugin, player);
-        gui.open();
+        // Open the collection journal GUI once their progress is loaded
+        playerDataManager.withProgress(player, progress -> new CollectionMenuGUI(plugin, player).open());
 
         return Command.SINGLE_SUCCESS;
     }
@@ -216,11 +227,9 @@ public class CollectionsCommand {
 
             // Show progress if sender is a player
             if (sender instanceof Player player) {
-                PlayerProgress playerProgress = playerDataManager.getProgress(player.getUniqueId());
-                if (playerProgress != null) {
-                    int collected = playerProgress.getCollectedCount(collection.id());
-                    progress = " (" + collected + "/" + itemCount + ")";
-                }
+                progress = playerDataManager.tryProgress(player.getUniqueId())
+                        .map(playerProgress -> " (" + playerProgress.getCollectedCount(collection.id()) + "/" + itemCount + ")")
+                        .orElse("");
             }
 
             sender.sendMessage(Component.text()
@@ -272,19 +281,20 @@ public class CollectionsCommand {
             return Command.SINGLE_SUCCESS;
         }
 
-        PlayerProgress progress = playerDataManager.getProgress(player.getUniqueId());
+        playerDataManager.withProgress(player, progress -> sendStats(player, progress));
+        return Command.SINGLE_SUCCESS;
+    }
 
+    /**
+     * Send a player their statistics.
+     */
+    private void sendStats(Player player, PlayerProgress progress) {
         player.sendMessage(Component.text()
                 .append(Component.text("=== ", NamedTextColor.GOLD))
                 .append(Component.text("Your Collection Stats", NamedTextColor.YELLOW))
                 .append(Component.text(" ===", NamedTextColor.GOLD))
                 .build());
 
-        if (progress == null) {
-            player.sendMessage(Component.text("No collection data found.", NamedTextColor.GRAY));
-            return Command.SINGLE_SUCCESS;
-        }
-
         player.sendMessage(Component.text()
                 .append(Component.text("Total Items Collected: ", NamedTextColor.GRAY))
                 .append(Component.text(String.valueOf(progress.getTotalCollectiblesCollected()), NamedTextColor.GREEN))
@@ -311,8 +321,6 @@ public class CollectionsCommand {
                     .append(complete ? Component.text(" [COMPLETE]", NamedTextColor.GREEN) : Component.empty())
                     .build());
         }
-
-        return Command.SINGLE_SUCCESS;
     }
 
     /**
@@ -467,6 +475,11 @@ public class CollectionsCommand {
                     .append(Component.text(" - Toggle debug mode", NamedTextColor.GRAY))
                     .build());
 
+            sender.sendMessage(Component.text()
+                    .append(Component.text("/collections perf", NamedTextColor.AQUA))
+                    .append(Component.text(" - Show performance counters", NamedTextColor.GRAY))
+                    .build());
+
             sender.sendMessage(Component.text()
                     .append(Component.text("/collections event start|end|list", NamedTextColor.AQUA))
                     .append(Component.text(" - Manage events", NamedTextColor.GRAY))
@@ -913,6 +926,93 @@ public class CollectionsCommand {
         return Command.SINGLE_SUCCESS;
     }
 
+    /**
+     * Show runtime performance counters.
+     */
+    private int showPerformance(CommandContext<CommandSourceStack> ctx) {
+        var sender = ctx.getSource().getSender();
+
+        sender.sendMessage(Component.text()
+                .append(Component.text("=== ", NamedTextColor.GOLD))
+                .append(Component.text("Collections Performance", NamedTextColor.YELLOW))
+                .append(Component.text(" ===", NamedTextColor.GOLD))
+                .build());
+
+        ParticleTask particleTask = plugin.getParticleTask();
+        if (particleTask != null) {
+            ParticleTask.DegradationLevel level = particleTask.getDegradationLevel();
+            sender.sendMessage(Component.text()
+                    .append(Component.text("Particles: ", NamedTextColor.GRAY))
+                    .append(Component.text(level.name(),
+                            level == ParticleTask.DegradationLevel.NONE ? NamedTextColor.GREEN : NamedTextColor.RED))
+                    .append(Component.text(" (" + particleTask.getLastPacketRate() + " packets/s)", NamedTextColor.GRAY))
+                    .build());
+        }
+
+        ChunkListener chunkListener = plugin.getChunkListener();
+        if (chunkListener != null) {
+            sender.sendMessage(Component.text()
+                    .append(Component.text("Stray entities: ", NamedTextColor.GRAY))
+                    .append(Component.text(chunkListener.getOrphansRemoved() + " orphaned, "
+                            + chunkListener.getDuplicatesRemoved() + " duplicate", NamedTextColor.WHITE))
+                    .append(Component.text(" removed of " + chunkListener.getTaggedEntitiesChecked() + " checked",
+                            NamedTextColor.GRAY))
+                    .build());
+        }
+
+        WriteBehindJournal journal = plugin.getPlayerDataManager().getJournal();
+        sender.sendMessage(Component.text()
+                .append(Component.text("Write queue: ", NamedTextColor.GRAY))
+                .append(Component.text(journal.getQueueDepth() + " rows", NamedTextColor.WHITE))
+                .append(Component.text(" (last flush " + journal.getLastFlushRows() + " rows in "
+                        + journal.getLastFlushMillis() + " ms, " + journal.getFlushCount() + " flushes)",
+                        NamedTextColor.GRAY))
+                .build());
+
+        CollectibleWriteQueue collectibleWrites = plugin.getSpawnManager().getCollectibleWrites();
+        if (collectibleWrites != null) {
+            sender.sendMessage(Component.text()
+                    .append(Component.text("Collectible writes: ", NamedTextColor.GRAY))
+                    .append(Component.text(collectibleWrites.getQueueDepth() + " queued", NamedTextColor.WHITE))
+                    .append(Component.text(" (last flush " + collectibleWrites.getLastFlushRows() + " rows in "
+                            + collectibleWrites.getLastFlushMillis() + " ms, " + collectibleWrites.getFlushCount()
+                            + " flushes)", NamedTextColor.GRAY))
+                    .build());
+        }
+
+        if (plugin.getStorage() instanceof JdbcStorage jdbc) {
+            sender.sendMessage(Component.text()
+                    .append(Component.text("Storage queues: ", NamedTextColor.GRAY))
+                    .append(Component.text(formatExecutor("read", jdbc.getReadExecutor()) + ", "
+                            + formatExecutor("write", jdbc.getWriteExecutor()), NamedTextColor.WHITE))
+                    .build());
+        }
+
+        WorldActivityTracker activity = plugin.getWorldActivityTracker();
+        sender.sendMessage(Component.text()
+                .append(Component.text("Active worlds: ", NamedTextColor.GRAY))
+                .append(Component.text(activity.getActiveWorldCount() + "/" + Bukkit.getWorlds().size(),
+                        NamedTextColor.WHITE))
+                .append(Component.text(activity.isEnabled() ? " (idle worlds suspended)" : " (suspension off)",
+                        NamedTextColor.GRAY))
+                .build());
+
+        int[] refresh = plugin.getEventManager().getRefreshProgress();
+        if (refresh != null) {
+            sender.sendMessage(Component.text()
+                    .append(Component.text("Event visibility refresh: ", NamedTextColor.GRAY))
+                    .append(Component.text(refresh[0] + "/" + refresh[1] + " players", NamedTextColor.WHITE))
+                    .build());
+        }
+
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private String formatExecutor(String name, StorageExecutor executor) {
+        return name + " " + executor.getActiveCount() + " active/" + executor.getQueueDepth() + " queued/"
+                + executor.getRejectedCount() + " rejected";
+    }
+
     // ========== Event Commands ==========
 
     /**
@@ -925,7 +1025,7 @@ public class CollectionsCommand {
         EventManager eventManager = plugin.getEventManager();
         String startedBy = sender instanceof Player p ? p.getName() : "Console";
 
-        if (eventManager.startEvent(eventName, startedBy)) {
+        if (eventManager.startEvent(eventName, startedBy, sender)) {
             sender.sendMessage(Component.text()
                     .append(Component.text("Event ", NamedTextColor.GREEN))
                     .append(Component.text(eventName, NamedTextColor.GOLD))
@@ -947,7 +1047,7 @@ public class CollectionsCommand {
 
         EventManager eventManager = plugin.getEventManager();
 
-        if (eventManager.endEvent(eventName)) {
+        if (eventManager.endEvent(eventName, sender)) {
             sender.sendMessage(Component.text()
                     .append(Component.text("Event ", NamedTextColor.GREEN))
                     .append(Component.text(eventName, NamedTextColor.GOLD))
@@ -967,7 +1067,7 @@ public class CollectionsCommand {
         var sender = ctx.getSource().getSender();
 
         EventManager eventManager = plugin.getEventManager();
-        int count = eventManager.endAllEvents();
+        int count = eventManager.endAllEvents(sender);
 
         if (count > 0) {
             sender.sendMessage(Component.text()
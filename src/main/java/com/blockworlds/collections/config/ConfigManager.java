@@ -1,5 +1,6 @@
 package com.blockworlds.collections.config;
 
+import com.blockworlds.collections.model.CollectibleTier;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
@@ -7,9 +8,11 @@ import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.Plugin;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Manages plugin configuration and messages with MiniMessage support.
@@ -25,21 +28,49 @@ public class ConfigManager {
     private int defaultRespawnDelaySeconds;
     private int validityCheckIntervalMinutes;
     private int spawnCheckIntervalSeconds;
+    private boolean suspendIdleWorlds;
+    private int idleWorldSpawnEveryNthCheck;
     private boolean debugMode;
 
     // Particle settings
     private int particleDistanceBlocks;
     private int particleIntervalTicks;
+    private int particleFullDetailDistance;
+    private int particleReducedDetailDistance;
+    private int particleMaxPacketsPerPlayerPerSecond;
+    private boolean particleLoadSheddingEnabled;
+    private double particleSheddingMsptReduced;
+    private double particleSheddingMsptMinimal;
+    private int particleSheddingPacketRateReduced;
+    private int particleSheddingPacketRateMinimal;
+    private int particleMinimalEveryNthCycle;
 
     // Goggle settings
     private boolean gogglesEnabled;
     private boolean gogglesSoulbound;
     private boolean recipesEnabled;
     private boolean unlockOnFirstCollect;
+    private long gogglePermissionRecheckMs;
+    private int goggleEventRefreshPlayersPerTick;
 
     // Database settings
     private String databaseType;
     private String databasePath;
+    private boolean chunkCollectibleStorage;
+    private boolean lazyCollectibleLoading;
+    private boolean sqliteSingleWriter;
+    private String mysqlHost;
+    private int mysqlPort;
+    private String mysqlDatabase;
+    private String mysqlUsername;
+    private String mysqlPassword;
+    private int mysqlPoolSize;
+    private int storageReadThreads;
+    private int storageWriteThreads;
+    private int storageQueueCapacity;
+    private boolean storageVirtualThreads;
+    private long writeBehindFlushIntervalMs;
+    private int writeBehindFlushThreshold;
 
     // Spawn finder settings
     private int spawnGridSpacing;
@@ -49,6 +80,10 @@ public class ConfigManager {
     private boolean spawnAllowConditionRelaxation;
     private boolean spawnDebug;
     private int despawnAfterMinutes;
+    private boolean virtualCollectibles;
+
+    // Tiers rendered with display entities instead of particles
+    private final Set<CollectibleTier> displayTiers = EnumSet.noneOf(CollectibleTier.class);
 
     // Cached messages
     private final Map<String, String> messages;
@@ -79,21 +114,49 @@ public class ConfigManager {
         defaultRespawnDelaySeconds = config.getInt("settings.default-respawn-delay-seconds", 60);
         validityCheckIntervalMinutes = config.getInt("settings.validity-check-interval-minutes", 5);
         spawnCheckIntervalSeconds = config.getInt("settings.spawn-check-interval-seconds", 30);
+        suspendIdleWorlds = config.getBoolean("settings.suspend-idle-worlds", false);
+        idleWorldSpawnEveryNthCheck = config.getInt("settings.idle-world-spawn-every-nth-check", 0);
         debugMode = config.getBoolean("settings.debug", false);
 
         // Particle settings
         particleDistanceBlocks = config.getInt("particles.distance-blocks", 32);
         particleIntervalTicks = config.getInt("particles.interval-ticks", 10);
+        particleFullDetailDistance = config.getInt("particles.lod.full-detail-distance", 12);
+        particleReducedDetailDistance = config.getInt("particles.lod.reduced-detail-distance", 24);
+        particleMaxPacketsPerPlayerPerSecond = config.getInt("particles.lod.max-packets-per-player-per-second", 120);
+        particleLoadSheddingEnabled = config.getBoolean("particles.load-shedding.enabled", true);
+        particleSheddingMsptReduced = config.getDouble("particles.load-shedding.mspt-reduced", 40.0);
+        particleSheddingMsptMinimal = config.getDouble("particles.load-shedding.mspt-minimal", 48.0);
+        particleSheddingPacketRateReduced = config.getInt("particles.load-shedding.packet-rate-reduced", 5000);
+        particleSheddingPacketRateMinimal = config.getInt("particles.load-shedding.packet-rate-minimal", 10000);
+        particleMinimalEveryNthCycle = config.getInt("particles.load-shedding.minimal-every-nth-cycle", 4);
 
         // Goggle settings
         gogglesEnabled = config.getBoolean("goggles.enabled", true);
         gogglesSoulbound = config.getBoolean("goggles.soulbound", true);
         recipesEnabled = config.getBoolean("goggles.recipes.enabled", true);
         unlockOnFirstCollect = config.getBoolean("goggles.recipes.unlock_on_first_collect", true);
+        gogglePermissionRecheckMs = config.getInt("goggles.permission-recheck-seconds", 5) * 1000L;
+        goggleEventRefreshPlayersPerTick = Math.max(1, config.getInt("goggles.event-refresh-players-per-tick", 10));
 
         // Database settings
         databaseType = config.getString("database.type", "sqlite");
         databasePath = config.getString("database.path", "plugins/Collections/data.db");
+        chunkCollectibleStorage = "chunk".equalsIgnoreCase(config.getString("database.collectible-storage", "database"));
+        lazyCollectibleLoading = config.getBoolean("database.lazy-collectible-loading", false);
+        sqliteSingleWriter = config.getBoolean("database.sqlite.single-writer", true);
+        mysqlHost = config.getString("database.mysql.host", "localhost");
+        mysqlPort = config.getInt("database.mysql.port", 3306);
+        mysqlDatabase = config.getString("database.mysql.database", "collections");
+        mysqlUsername = config.getString("database.mysql.username", "root");
+        mysqlPassword = config.getString("database.mysql.password", "");
+        mysqlPoolSize = config.getInt("database.mysql.pool-size", 10);
+        storageReadThreads = config.getInt("database.executors.read-threads", 4);
+        storageWriteThreads = config.getInt("database.executors.write-threads", 2);
+        storageQueueCapacity = config.getInt("database.executors.queue-capacity", 1000);
+        storageVirtualThreads = config.getBoolean("database.executors.virtual-threads", false);
+        writeBehindFlushIntervalMs = config.getLong("database.write-behind.flush-interval-ms", 2000L);
+        writeBehindFlushThreshold = config.getInt("database.write-behind.flush-threshold", 500);
 
         // Spawn finder settings
         spawnGridSpacing = config.getInt("spawn.grid-spacing", 8);
@@ -103,6 +166,16 @@ public class ConfigManager {
         spawnAllowConditionRelaxation = config.getBoolean("spawn.allow-condition-relaxation", true);
         spawnDebug = config.getBoolean("spawn.debug", false);
         despawnAfterMinutes = config.getInt("spawn.despawn-after-minutes", 10);
+        virtualCollectibles = config.getBoolean("spawn.virtual-collectibles", false);
+
+        // Tier render modes
+        displayTiers.clear();
+        for (CollectibleTier tier : CollectibleTier.values()) {
+            String render = config.getString("tiers." + tier.name().toLowerCase() + ".render", "particles");
+            if ("display".equalsIgnoreCase(render)) {
+                displayTiers.add(tier);
+            }
+        }
 
         // Load messages
         messages.clear();
@@ -229,6 +302,14 @@ public class ConfigManager {
         return spawnCheckIntervalSeconds;
     }
 
+    public boolean isSuspendIdleWorlds() {
+        return suspendIdleWorlds;
+    }
+
+    public int getIdleWorldSpawnEveryNthCheck() {
+        return idleWorldSpawnEveryNthCheck;
+    }
+
     public boolean isDebugMode() {
         return debugMode;
     }
@@ -247,6 +328,42 @@ public class ConfigManager {
         return particleIntervalTicks;
     }
 
+    public int getParticleFullDetailDistance() {
+        return particleFullDetailDistance;
+    }
+
+    public int getParticleReducedDetailDistance() {
+        return particleReducedDetailDistance;
+    }
+
+    public int getParticleMaxPacketsPerPlayerPerSecond() {
+        return particleMaxPacketsPerPlayerPerSecond;
+    }
+
+    public boolean isParticleLoadSheddingEnabled() {
+        return particleLoadSheddingEnabled;
+    }
+
+    public double getParticleSheddingMsptReduced() {
+        return particleSheddingMsptReduced;
+    }
+
+    public double getParticleSheddingMsptMinimal() {
+        return particleSheddingMsptMinimal;
+    }
+
+    public int getParticleSheddingPacketRateReduced() {
+        return particleSheddingPacketRateReduced;
+    }
+
+    public int getParticleSheddingPacketRateMinimal() {
+        return particleSheddingPacketRateMinimal;
+    }
+
+    public int getParticleMinimalEveryNthCycle() {
+        return particleMinimalEveryNthCycle;
+    }
+
     // ========== Goggle Settings ==========
 
     public boolean isGogglesEnabled() {
@@ -265,6 +382,14 @@ public class ConfigManager {
         return unlockOnFirstCollect;
     }
 
+    public long getGogglePermissionRecheckMs() {
+        return gogglePermissionRecheckMs;
+    }
+
+    public int getGoggleEventRefreshPlayersPerTick() {
+        return goggleEventRefreshPlayersPerTick;
+    }
+
     // ========== Database Settings ==========
 
     public String getDatabaseType() {
@@ -275,6 +400,66 @@ public class ConfigManager {
         return databasePath;
     }
 
+    public boolean isChunkCollectibleStorage() {
+        return chunkCollectibleStorage;
+    }
+
+    public boolean isLazyCollectibleLoading() {
+        return lazyCollectibleLoading;
+    }
+
+    public boolean isSqliteSingleWriter() {
+        return sqliteSingleWriter;
+    }
+
+    public String getMysqlHost() {
+        return mysqlHost;
+    }
+
+    public int getMysqlPort() {
+        return mysqlPort;
+    }
+
+    public String getMysqlDatabase() {
+        return mysqlDatabase;
+    }
+
+    public String getMysqlUsername() {
+        return mysqlUsername;
+    }
+
+    public String getMysqlPassword() {
+        return mysqlPassword;
+    }
+
+    public int getMysqlPoolSize() {
+        return mysqlPoolSize;
+    }
+
+    public int getStorageReadThreads() {
+        return storageReadThreads;
+    }
+
+    public int getStorageWriteThreads() {
+        return storageWriteThreads;
+    }
+
+    public int getStorageQueueCapacity() {
+        return storageQueueCapacity;
+    }
+
+    public boolean isStorageVirtualThreads() {
+        return storageVirtualThreads;
+    }
+
+    public long getWriteBehindFlushIntervalMs() {
+        return writeBehindFlushIntervalMs;
+    }
+
+    public int getWriteBehindFlushThreshold() {
+        return writeBehindFlushThreshold;
+    }
+
     // ========== Spawn Finder Settings ==========
 
     public int getSpawnGridSpacing() {
@@ -305,6 +490,16 @@ public class ConfigManager {
         return despawnAfterMinutes;
     }
 
+    public boolean isVirtualCollectibles() {
+        return virtualCollectibles;
+    }
+
+    // ========== Tier Settings ==========
+
+    public boolean isDisplayRendered(CollectibleTier tier) {
+        return displayTiers.contains(tier);
+    }
+
     // ========== Utility Methods ==========
 
     /**
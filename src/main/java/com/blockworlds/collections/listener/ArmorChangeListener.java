@@ -36,6 +36,9 @@ public class ArmorChangeListener implements Listener {
             return;
         }
 
+        // Helmet changed - the cached visibility mask is stale
+        goggleManager.invalidateVisibility(player.getUniqueId());
+
         // Schedule the visibility refresh for next tick using region scheduler for Folia compatibility
         Bukkit.getRegionScheduler().run(plugin, player.getLocation(), task -> {
             if (player.isOnline()) {
@@ -3,25 +3,56 @@ package com.blockworlds.collections.listener;
 import com.blockworlds.collections.Collections;
 import com.blockworlds.collections.manager.SpawnManager;
 import com.blockworlds.collections.model.Collectible;
+import com.blockworlds.collections.util.ChunkIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Interaction;
+import org.bukkit.entity.ItemDisplay;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.world.ChunkLoadEvent;
 import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Handles chunk load/unload events to manage collectible entity lifecycle.
+ *
+ * Chunks without collectibles are skipped with a single index lookup. Entities are
+ * recreated once the chunk's entities have loaded, batched per region cell so a burst
+ * of chunk loads in one area costs a single scheduled task per tick.
+ * Stray collectible entities are swept as chunk entities load (with lazy loading,
+ * once the chunk's collectibles have been fetched).
  */
 public class ChunkListener implements Listener {
 
+    // Batch cells of 8x8 chunks, well within a single Folia region section
+    private static final int BATCH_SHIFT = 3;
+    // Wait between checks for a pending chunk fetch before sweeping
+    private static final long SWEEP_RETRY_TICKS = 5L;
+
     private final Collections plugin;
     private final SpawnManager spawnManager;
 
+    // Chunks waiting for recreation, per world and batch cell
+    private final Map<UUID, Map<Long, Set<Long>>> pendingBatches = new ConcurrentHashMap<>();
+
+    // Stray entity sweeper counters
+    private final AtomicLong taggedEntitiesChecked = new AtomicLong();
+    private final AtomicLong orphansRemoved = new AtomicLong();
+    private final AtomicLong duplicatesRemoved = new AtomicLong();
+
     public ChunkListener(Collections plugin) {
         this.plugin = plugin;
         this.spawnManager = plugin.getSpawnManager();
@@ -30,33 +61,42 @@ public class ChunkListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onChunkLoad(ChunkLoadEvent event) {
         Chunk chunk = event.getChunk();
-        World world = chunk.getWorld();
 
-        // Use region scheduler for Folia compatibility
-        Bukkit.getRegionScheduler().runDelayed(plugin, chunk.getBlock(8, 64, 8).getLocation(), task -> {
-            List<Collectible> collectibles = spawnManager.getCollectiblesInChunk(
-                    world, chunk.getX(), chunk.getZ());
+        // In chunk storage mode, register the collectibles saved in this chunk
+        spawnManager.loadChunk(chunk);
 
-            for (Collectible collectible : collectibles) {
-                if (!collectible.spawned()) {
-                    spawnManager.recreateEntities(collectible);
+        // Virtual collectibles have no entities to recreate
+        if (spawnManager.isVirtual() || !isOccupied(chunk)) {
+            return;
+        }
 
-                    if (plugin.getConfigManager().isDebugMode()) {
-                        plugin.getLogger().info("Recreated collectible entities in chunk " +
-                                chunk.getX() + "," + chunk.getZ());
-                    }
-                }
-            }
-        }, 5L); // Small delay to ensure chunk is fully loaded
+        // Recreate now if entities are already in, otherwise EntitiesLoadEvent will
+        if (chunk.isEntitiesLoaded()) {
+            queueRecreation(chunk.getWorld(), chunk.getX(), chunk.getZ());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        sweepWhenFetched(chunk.getWorld(), chunk.getX(), chunk.getZ(), event.getEntities());
+
+        if (spawnManager.isVirtual() || !isOccupied(chunk)) {
+            return;
+        }
+
+        queueRecreation(chunk.getWorld(), chunk.getX(), chunk.getZ());
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onChunkUnload(ChunkUnloadEvent event) {
         Chunk chunk = event.getChunk();
-        World world = chunk.getWorld();
+        if (spawnManager.isVirtual() || !isOccupied(chunk)) {
+            return;
+        }
 
         List<Collectible> collectibles = spawnManager.getCollectiblesInChunk(
-                world, chunk.getX(), chunk.getZ());
+                chunk.getWorld(), chunk.getX(), chunk.getZ());
 
         for (Collectible collectible : collectibles) {
             if (collectible.spawned()) {
@@ -69,4 +109,139 @@ public class ChunkListener implements Listener {
             }
         }
     }
+
+    /**
+     * Sweep a chunk's entities once its collectibles are tracked. With lazy loading the
+     * chunk's database fetch may still be running, and until it lands every collectible
+     * entity in the chunk would look orphaned.
+     */
+    private void sweepWhenFetched(World world, int chunkX, int chunkZ, List<Entity> entities) {
+        if (!spawnManager.isChunkFetchPending(world.getName(), chunkX, chunkZ)) {
+            sweepStrays(entities);
+            return;
+        }
+
+        Bukkit.getRegionScheduler().runDelayed(plugin, world, chunkX, chunkZ, task -> {
+            if (!world.isChunkLoaded(chunkX, chunkZ)) return;
+            Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+            if (chunk.isEntitiesLoaded()) {
+                sweepWhenFetched(world, chunkX, chunkZ, List.of(chunk.getEntities()));
+            }
+        }, SWEEP_RETRY_TICKS);
+    }
+
+    /**
+     * Remove collectible-tagged entities that are not the current hitbox or display
+     * of a tracked collectible (left behind by crashes, reloads or missed unloads).
+     */
+    private void sweepStrays(List<Entity> entities) {
+        for (Entity entity : entities) {
+            if (!(entity instanceof Interaction) && !(entity instanceof ItemDisplay)) continue;
+
+            PersistentDataContainer pdc = entity.getPersistentDataContainer();
+            if (!pdc.has(spawnManager.getCollectibleKey(), PersistentDataType.BOOLEAN)) continue;
+            taggedEntitiesChecked.incrementAndGet();
+
+            String idStr = pdc.get(spawnManager.getCollectibleIdKey(), PersistentDataType.STRING);
+            UUID collectibleId = parseUuid(idStr);
+            if (collectibleId != null && spawnManager.isTrackedEntity(entity.getUniqueId(), collectibleId)) {
+                continue;
+            }
+
+            // Tracked collectible with a different entity = duplicate, otherwise orphaned
+            if (collectibleId != null && spawnManager.getCollectible(collectibleId) != null) {
+                duplicatesRemoved.incrementAndGet();
+            } else {
+                orphansRemoved.incrementAndGet();
+            }
+            entity.remove();
+
+            if (plugin.getConfigManager().isDebugMode()) {
+                plugin.getLogger().info("Removed stray collectible entity " + entity.getUniqueId() +
+                        " (collectible " + idStr + ")");
+            }
+        }
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null) return null;
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Number of collectible-tagged entities the sweeper has checked.
+     */
+    public long getTaggedEntitiesChecked() {
+        return taggedEntitiesChecked.get();
+    }
+
+    /**
+     * Number of tagged entities removed because their collectible is no longer tracked.
+     */
+    public long getOrphansRemoved() {
+        return orphansRemoved.get();
+    }
+
+    /**
+     * Number of tagged entities removed because their collectible already has a live entity.
+     */
+    public long getDuplicatesRemoved() {
+        return duplicatesRemoved.get();
+    }
+
+    /**
+     * Check whether a chunk holds any tracked collectibles.
+     */
+    private boolean isOccupied(Chunk chunk) {
+        return spawnManager.getChunkIndex().isOccupied(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Queue a chunk for entity recreation. The first chunk queued in a batch cell
+     * schedules the task that drains the whole cell on the next tick.
+     */
+    private void queueRecreation(World world, int chunkX, int chunkZ) {
+        long cellKey = ChunkIndex.chunkKey(chunkX >> BATCH_SHIFT, chunkZ >> BATCH_SHIFT);
+        Map<Long, Set<Long>> cells = pendingBatches.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+
+        // A cell is only ever touched from the region thread that owns it
+        Set<Long> chunks = cells.get(cellKey);
+        if (chunks == null) {
+            chunks = ConcurrentHashMap.newKeySet();
+            cells.put(cellKey, chunks);
+            Bukkit.getRegionScheduler().run(plugin, world, chunkX, chunkZ, task ->
+                    recreateBatch(world, cells.remove(cellKey)));
+        }
+        chunks.add(ChunkIndex.chunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Recreate entities for every queued chunk in a batch cell.
+     */
+    private void recreateBatch(World world, Set<Long> chunks) {
+        if (chunks == null) return;
+
+        int recreated = 0;
+        for (long key : chunks) {
+            int chunkX = (int) (key >> 32);
+            int chunkZ = (int) key;
+            if (!world.isChunkLoaded(chunkX, chunkZ)) continue; // Unloaded again before we got to it
+
+            for (Collectible collectible : spawnManager.getCollectiblesInChunk(world, chunkX, chunkZ)) {
+                if (!collectible.spawned()) {
+                    spawnManager.recreateEntities(collectible);
+                    recreated++;
+                }
+            }
+        }
+
+        if (recreated > 0 && plugin.getConfigManager().isDebugMode()) {
+            plugin.getLogger().info("Recreated " + recreated + " collectible(s) across " +
+                    chunks.size() + " chunk(s) in " + world.getName());
+        }
+    }
 }
@@ -6,27 +6,36 @@ import com.blockworlds.collections.manager.CollectionManager;
 import com.blockworlds.collections.manager.GoggleManager;
 import com.blockworlds.collections.manager.PlayerDataManager;
 import com.blockworlds.collections.manager.SpawnManager;
+import com.blockworlds.collections.model.ClaimState;
 import com.blockworlds.collections.model.Collectible;
+import com.blockworlds.collections.model.CollectibleTier;
 import com.blockworlds.collections.model.Collection;
 import com.blockworlds.collections.model.CollectionItem;
+import com.blockworlds.collections.util.ChunkIndex;
 import com.blockworlds.collections.util.ItemBuilder;
 import com.blockworlds.collections.util.PDCKeys;
+import com.blockworlds.collections.util.RayBox;
+import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.Event;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractAtEntityEvent;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Handles player interaction with collectibles in the world.
@@ -41,12 +50,14 @@ public class CollectibleInteractListener implements Listener {
     private final CollectionManager collectionManager;
     private final PlayerDataManager playerDataManager;
 
+    // Virtual collectible hitbox, matching the Interaction entity size
+    private static final double REACH = 5.0;
+    private static final double HITBOX_HALF_WIDTH = 0.5;
+    private static final double HITBOX_HEIGHT = 1.5;
+
     // Cooldown tracking: player UUID -> last collect timestamp
     private final Map<UUID, Long> lastCollectTime = new ConcurrentHashMap<>();
 
-    // Race condition handling: collectible UUID -> lock
-    private final Map<UUID, AtomicBoolean> collectLocks = new ConcurrentHashMap<>();
-
     public CollectibleInteractListener(Collections plugin) {
         this.plugin = plugin;
         this.configManager = plugin.getConfigManager();
@@ -79,6 +90,102 @@ public class CollectibleInteractListener implements Listener {
         }
     }
 
+    /**
+     * Handle clicks on virtual collectibles, which have no entity to click.
+     * Right-clicking air arrives already cancelled, so cancellation is only honoured for
+     * block clicks, where it means another plugin (such as region protection) denied the click.
+     * Left-clicking air also collects: the client sends nothing for an empty-hand right-click
+     * at air, but always sends the arm swing.
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onInteract(PlayerInteractEvent event) {
+        if (!spawnManager.isVirtual() || event.getHand() != EquipmentSlot.HAND) {
+            return;
+        }
+
+        Action action = event.getAction();
+        if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK
+                && action != Action.LEFT_CLICK_AIR) {
+            return;
+        }
+        if (action == Action.RIGHT_CLICK_BLOCK && event.useInteractedBlock() == Event.Result.DENY
+                && event.useItemInHand() == Event.Result.DENY) {
+            return;
+        }
+
+        // A clicked block in front of the collectible blocks the ray
+        Player player = event.getPlayer();
+        Location eye = player.getEyeLocation();
+        double reach = REACH;
+        Location interactionPoint = event.getInteractionPoint();
+        if (action == Action.RIGHT_CLICK_BLOCK && interactionPoint != null) {
+            reach = Math.min(reach, eye.distance(interactionPoint));
+        }
+
+        Collectible collectible = rayCastCollectible(player, eye, reach);
+        if (collectible != null) {
+            event.setCancelled(true);
+            handleCollect(player, collectible);
+        }
+    }
+
+    /**
+     * Find the nearest visible collectible hitbox along the player's view ray.
+     *
+     * @return The collectible hit, or null if none within reach
+     */
+    private Collectible rayCastCollectible(Player player, Location eye, double reach) {
+        if (eye.getWorld() == null) return null;
+        String worldName = eye.getWorld().getName();
+
+        double originX = eye.getX();
+        double originY = eye.getY();
+        double originZ = eye.getZ();
+        Vector direction = eye.getDirection();
+        double dirX = direction.getX();
+        double dirY = direction.getY();
+        double dirZ = direction.getZ();
+
+        GoggleManager goggleManager = plugin.getGoggleManager();
+        int visibleBits = goggleManager != null
+                ? goggleManager.getVisibilityMask(player)
+                : CollectibleTier.COMMON.getBit();
+
+        ChunkIndex chunkIndex = spawnManager.getChunkIndex();
+        int minChunkX = ChunkIndex.toChunk(originX - reach);
+        int maxChunkX = ChunkIndex.toChunk(originX + reach);
+        int minChunkZ = ChunkIndex.toChunk(originZ - reach);
+        int maxChunkZ = ChunkIndex.toChunk(originZ + reach);
+
+        Collectible closest = null;
+        double closestDistance = reach;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!chunkIndex.isOccupied(worldName, chunkX, chunkZ)) continue;
+
+                for (UUID id : chunkIndex.get(worldName, chunkX, chunkZ)) {
+                    Collectible collectible = spawnManager.getCollectible(id);
+                    if (collectible == null || !collectible.spawned()) continue;
+                    if ((visibleBits & collectible.tier().getBit()) == 0) continue;
+
+                    // Same box as the Interaction hitbox: centered on X/Z, rising from the location
+                    Location loc = collectible.location();
+                    double distance = RayBox.intersect(originX, originY, originZ, dirX, dirY, dirZ,
+                            loc.getX() - HITBOX_HALF_WIDTH, loc.getY(), loc.getZ() - HITBOX_HALF_WIDTH,
+                            loc.getX() + HITBOX_HALF_WIDTH, loc.getY() + HITBOX_HEIGHT, loc.getZ() + HITBOX_HALF_WIDTH);
+
+                    if (distance != RayBox.MISS && distance <= closestDistance) {
+                        closest = collectible;
+                        closestDistance = distance;
+                    }
+                }
+            }
+        }
+
+        return closest;
+    }
+
     /**
      * Check if an entity is a collectible.
      */
@@ -97,6 +204,13 @@ public class CollectibleInteractListener implements Listener {
             return;
         }
 
+        handleCollect(player, collectible);
+    }
+
+    /**
+     * Try to collect a collectible for a player.
+     */
+    private void handleCollect(Player player, Collectible collectible) {
         // Check goggle visibility - player must be able to see this tier
         GoggleManager goggleManager = plugin.getGoggleManager();
         if (goggleManager != null && !goggleManager.canPlayerSeeCollectible(player, collectible)) {
@@ -111,19 +225,24 @@ public class CollectibleInteractListener implements Listener {
             return;
         }
 
-        // Try to acquire lock for this collectible (race condition handling)
-        AtomicBoolean lock = collectLocks.computeIfAbsent(collectible.id(), k -> new AtomicBoolean(false));
-        if (!lock.compareAndSet(false, true)) {
-            // Another player is collecting this
+        // Claim the collectible (race condition handling) - exactly one player wins
+        ClaimState claim = collectible.claim();
+        if (!claim.tryClaim()) {
+            // Another player is collecting (or has collected) this
             player.sendMessage(configManager.getMessage("already-collected"));
             return;
         }
 
+        boolean collected = false;
         try {
-            processCollection(player, collectible);
+            collected = processCollection(player, collectible);
         } finally {
-            // Always release the lock
-            collectLocks.remove(collectible.id());
+            // Collected claims stay closed; failed ones become claimable again
+            if (collected) {
+                claim.complete();
+            } else {
+                claim.release();
+            }
         }
     }
 
@@ -155,13 +274,15 @@ public class CollectibleInteractListener implements Listener {
 
     /**
      * Process the actual collection - generate item and give to player.
+     *
+     * @return true if the player received the item and the collectible was despawned
      */
-    private void processCollection(Player player, Collectible collectible) {
+    private boolean processCollection(Player player, Collectible collectible) {
         // Get the collection definition
         Collection collection = collectionManager.getCollection(collectible.collectionId());
         if (collection == null) {
             plugin.getLogger().warning("Collection not found: " + collectible.collectionId());
-            return;
+            return false;
         }
 
         // Get the pre-selected item from the collectible (selected at spawn time based on conditions)
@@ -182,7 +303,7 @@ public class CollectibleInteractListener implements Listener {
 
         if (item == null) {
             plugin.getLogger().warning("No items available in collection: " + collectible.collectionId());
-            return;
+            return false;
         }
 
         // Create the physical item
@@ -213,6 +334,7 @@ public class CollectibleInteractListener implements Listener {
             plugin.getLogger().info(player.getName() + " collected " + item.id() +
                     " from " + collection.id() + " at " + collectible.location());
         }
+        return true;
     }
 
     /**
@@ -82,16 +82,19 @@ public class ItemUseListener implements Listener {
             return;
         }
 
-        // Check if player already has this item in their journal
-        if (playerDataManager.hasItem(player.getUniqueId(), collectionId, itemId)) {
-            player.sendMessage(configManager.getMessage("item-duplicate", "item", collectionItem.name()));
-            // Don't consume - let them trade it
-            return;
-        }
-
-        // Open confirmation GUI instead of directly adding
-        ConfirmAddGUI confirmGui = new ConfirmAddGUI(plugin, player, item, collection, collectionItem);
-        confirmGui.open();
+        // Check against their journal once it is loaded
+        playerDataManager.withProgress(player, progress -> {
+            // Check if player already has this item in their journal
+            if (progress.hasItem(collectionId, itemId)) {
+                player.sendMessage(configManager.getMessage("item-duplicate", "item", collectionItem.name()));
+                // Don't consume - let them trade it
+                return;
+            }
+
+            // Open confirmation GUI instead of directly adding
+            ConfirmAddGUI confirmGui = new ConfirmAddGUI(plugin, player, item, collection, collectionItem);
+            confirmGui.open();
+        });
     }
 
     /**
@@ -4,21 +4,28 @@ import com.blockworlds.collections.Collections;
 import com.blockworlds.collections.manager.GoggleManager;
 import com.blockworlds.collections.manager.PlayerDataManager;
 import com.blockworlds.collections.recipe.GoggleRecipeManager;
+import com.blockworlds.collections.task.ActionBarPromptTask;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 /**
  * Handles player join/quit for data loading and saving.
  */
 public class PlayerListener implements Listener {
 
+    // Longest a login is held waiting for its prefetch; slower loads finish after join
+    private static final long PREFETCH_WAIT_MS = 5000;
+
     private final Collections plugin;
     private final PlayerDataManager playerDataManager;
 
@@ -27,39 +34,66 @@ public class PlayerListener implements Listener {
         this.playerDataManager = plugin.getPlayerDataManager();
     }
 
+    /**
+     * Prefetch progress on the async login thread, so it is cached by the time the player joins.
+     * Monitor priority: only logins no other plugin denied are worth loading.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        UUID playerId = event.getUniqueId();
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            playerDataManager.discardPrefetch(playerId);
+            return;
+        }
+
+        try {
+            // Blocking is fine here: this thread exists to do login work before the join
+            playerDataManager.prefetch(playerId).get(PREFETCH_WAIT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // Still staged; the join picks it up when it completes
+            if (plugin.getConfigManager().isDebugMode()) {
+                plugin.getLogger().log(Level.INFO, "Prefetch for " + event.getName() + " not ready at login", e);
+            }
+        }
+    }
+
     @EventHandler(priority = EventPriority.NORMAL)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
-        // Load player data asynchronously
-        playerDataManager.loadPlayer(player)
-                .thenAccept(progress -> {
-                    if (plugin.getConfigManager().isDebugMode()) {
-                        plugin.getLogger().info("Loaded data for " + player.getName() +
-                                " (" + progress.getTotalCollectiblesCollected() + " items collected)");
-                    }
+        GoggleManager goggleManager = plugin.getGoggleManager();
 
-                    // Unlock recipes for returning players who have collected items
-                    if (progress.getTotalCollectiblesCollected() > 0) {
-                        GoggleRecipeManager recipeManager = plugin.getGoggleRecipeManager();
-                        if (recipeManager != null && !recipeManager.hasDiscoveredRecipes(player)) {
-                            // Run on main thread since discoverRecipe needs it
-                            Bukkit.getScheduler().runTask(plugin, () -> {
-                                if (player.isOnline()) {
-                                    recipeManager.unlockRecipesForPlayer(player);
-                                }
-                            });
-                        }
-                    }
-                });
+        // Resume per-world work where the player lands
+        plugin.getWorldActivityTracker().playerEntered(player.getUniqueId(), player.getWorld());
+
+        // Start from a fresh visibility mask
+        if (goggleManager != null) {
+            goggleManager.invalidateVisibility(player.getUniqueId());
+        }
+
+        // Promote the pre-login prefetch (or load now if there was none)
+        playerDataManager.withProgress(player, progress -> {
+            if (plugin.getConfigManager().isDebugMode()) {
+                plugin.getLogger().info("Loaded data for " + player.getName() +
+                        " (" + progress.getTotalCollectiblesCollected() + " items collected)");
+            }
+
+            // Unlock recipes for returning players who have collected items
+            if (progress.getTotalCollectiblesCollected() > 0) {
+                GoggleRecipeManager recipeManager = plugin.getGoggleRecipeManager();
+                if (recipeManager != null && !recipeManager.hasDiscoveredRecipes(player)) {
+                    recipeManager.unlockRecipesForPlayer(player);
+                }
+            }
+        });
 
         // Schedule visibility refresh after a short delay to allow chunks to load
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (player.isOnline()) {
-                GoggleManager goggleManager = plugin.getGoggleManager();
-                if (goggleManager != null) {
-                    goggleManager.refreshVisibilityForPlayer(player);
-                }
+            if (player.isOnline() && goggleManager != null) {
+                goggleManager.refreshVisibilityForPlayer(player);
             }
         }, 20L); // 1 second delay
     }
@@ -75,6 +109,20 @@ public class PlayerListener implements Listener {
             interactListener.cleanupPlayer(playerId);
         }
 
+        // Drop action bar prompt state
+        ActionBarPromptTask promptTask = plugin.getActionBarPromptTask();
+        if (promptTask != null) {
+            promptTask.removePlayer(playerId);
+        }
+
+        // Drop cached goggle visibility
+        GoggleManager goggleManager = plugin.getGoggleManager();
+        if (goggleManager != null) {
+            goggleManager.forgetPlayer(playerId);
+        }
+
+        plugin.getWorldActivityTracker().playerLeft(playerId);
+
         // Save and unload player data
         playerDataManager.saveAndUnload(playerId)
                 .thenRun(() -> {
@@ -0,0 +1,64 @@
+package com.blockworlds.collections.listener;
+
+import com.blockworlds.collections.Collections;
+import com.blockworlds.collections.manager.GoggleManager;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Refreshes collectible visibility when players move into a new area,
+ * so collectibles they walk up to respect their goggles.
+ * World changes are also reported to the world activity tracker.
+ */
+public class PlayerMoveListener implements Listener {
+
+    private final Collections plugin;
+
+    public PlayerMoveListener(Collections plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (!event.hasChangedBlock()) {
+            return;
+        }
+
+        // Only refresh when crossing a chunk boundary
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if ((from.getBlockX() >> 4) == (to.getBlockX() >> 4)
+                && (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4)) {
+            return;
+        }
+
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        Player player = event.getPlayer();
+
+        // Refresh once the teleport has completed
+        player.getScheduler().run(plugin, task -> refresh(player), null);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        plugin.getWorldActivityTracker().playerEntered(event.getPlayer().getUniqueId(), event.getPlayer().getWorld());
+        refresh(event.getPlayer());
+    }
+
+    private void refresh(Player player) {
+        GoggleManager goggleManager = plugin.getGoggleManager();
+        if (goggleManager != null && player.isOnline()) {
+            goggleManager.refreshVisibilityForPlayer(player);
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package com.blockworlds.collections.manager;
 
 import com.blockworlds.collections.Collections;
+import com.blockworlds.collections.model.CollectibleTier;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Manages collection events for EVENT tier collectibles.
@@ -18,6 +27,9 @@ public class EventManager {
     // Active events: name -> event data
     private final Map<String, ActiveEvent> activeEvents = new ConcurrentHashMap<>();
 
+    // Staggered visibility refresh in progress, if any
+    private volatile RefreshJob refreshJob;
+
     public EventManager(Collections plugin) {
         this.plugin = plugin;
     }
@@ -49,19 +61,34 @@ public class EventManager {
      * @return true if the event was started, false if already active
      */
     public boolean startEvent(String eventName, String startedBy) {
+        return startEvent(eventName, startedBy, null);
+    }
+
+    /**
+     * Start an event manually.
+     *
+     * @param eventName The event name
+     * @param startedBy The player/console who started it (for logging)
+     * @param reportTo  Who to send visibility refresh progress to, or null
+     * @return true if the event was started, false if already active
+     */
+    public boolean startEvent(String eventName, String startedBy, CommandSender reportTo) {
         String key = eventName.toLowerCase();
 
         if (activeEvents.containsKey(key)) {
             return false; // Already active
         }
 
+        boolean wasAnyActive = isAnyEventActive();
         ActiveEvent event = new ActiveEvent(eventName, System.currentTimeMillis(), startedBy);
         activeEvents.put(key, event);
 
         plugin.getLogger().info("Event '" + eventName + "' started by " + startedBy);
 
-        // Refresh visibility for all online players
-        refreshAllPlayerVisibility();
+        // EVENT tier visibility only changes when the first event starts
+        if (!wasAnyActive) {
+            refreshAllPlayerVisibility(reportTo);
+        }
 
         return true;
     }
@@ -73,6 +100,17 @@ public class EventManager {
      * @return true if the event was ended, false if not active
      */
     public boolean endEvent(String eventName) {
+        return endEvent(eventName, null);
+    }
+
+    /**
+     * End a specific event.
+     *
+     * @param eventName The event name to end
+     * @param reportTo  Who to send visibility refresh progress to, or null
+     * @return true if the event was ended, false if not active
+     */
+    public boolean endEvent(String eventName, CommandSender reportTo) {
         String key = eventName.toLowerCase();
 
         ActiveEvent removed = activeEvents.remove(key);
@@ -84,8 +122,10 @@ public class EventManager {
         plugin.getLogger().info("Event '" + eventName + "' ended after " +
                 formatDuration(duration));
 
-        // Refresh visibility for all online players
-        refreshAllPlayerVisibility();
+        // EVENT tier visibility only changes when the last event ends
+        if (!isAnyEventActive()) {
+            refreshAllPlayerVisibility(reportTo);
+        }
 
         return true;
     }
@@ -96,6 +136,16 @@ public class EventManager {
      * @return the number of events ended
      */
     public int endAllEvents() {
+        return endAllEvents(null);
+    }
+
+    /**
+     * End all active events.
+     *
+     * @param reportTo Who to send visibility refresh progress to, or null
+     * @return the number of events ended
+     */
+    public int endAllEvents(CommandSender reportTo) {
         int count = activeEvents.size();
 
         if (count > 0) {
@@ -103,7 +153,7 @@ public class EventManager {
             plugin.getLogger().info("Ended all " + count + " active events");
 
             // Refresh visibility for all online players
-            refreshAllPlayerVisibility();
+            refreshAllPlayerVisibility(reportTo);
         }
 
         return count;
@@ -138,16 +188,55 @@ public class EventManager {
     }
 
     /**
-     * Refresh collectible visibility for all online players.
+     * Refresh EVENT tier visibility for all online players.
      * Called when events start/end to update what players can see.
+     * Players are processed a few per tick so large servers don't stall.
      */
-    private void refreshAllPlayerVisibility() {
+    private void refreshAllPlayerVisibility(CommandSender reportTo) {
         GoggleManager goggleManager = plugin.getGoggleManager();
         if (goggleManager == null) return;
 
+        // EVENT tier visibility changed for everyone
+        goggleManager.invalidateAllVisibility();
+
+        // A newer refresh supersedes any one still running
+        RefreshJob previous = refreshJob;
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        Queue<UUID> pending = new ConcurrentLinkedQueue<>();
         for (Player player : plugin.getServer().getOnlinePlayers()) {
-            goggleManager.refreshVisibilityForPlayer(player);
+            pending.add(player.getUniqueId());
+        }
+
+        RefreshJob job = new RefreshJob(pending, reportTo);
+        refreshJob = job;
+        if (reportTo != null) {
+            reportTo.sendMessage(Component.text("Refreshing event visibility for " + job.total + " player(s)...",
+                    NamedTextColor.GRAY));
         }
+
+        int perTick = plugin.getConfigManager().getGoggleEventRefreshPlayersPerTick();
+        job.task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, task -> {
+            job.tick(goggleManager, perTick);
+            if (job.isDone()) {
+                task.cancel();
+                if (refreshJob == job) {
+                    refreshJob = null;
+                }
+            }
+        }, 1L, 1L);
+    }
+
+    /**
+     * Get progress of the running event visibility refresh.
+     *
+     * @return {processed, total}, or null if no refresh is running
+     */
+    public int[] getRefreshProgress() {
+        RefreshJob job = refreshJob;
+        return job != null ? new int[]{job.processed, job.total} : null;
     }
 
     /**
@@ -167,6 +256,60 @@ public class EventManager {
         }
     }
 
+    /**
+     * A staggered EVENT tier visibility refresh over a snapshot of online players.
+     * Each player's refresh runs on their own entity scheduler. Only touched from the global region thread.
+     */
+    private final class RefreshJob {
+        private static final int REPORT_INTERVAL_TICKS = 100;
+
+        private final Queue<UUID> pending;
+        private final CommandSender reportTo;
+        private final int total;
+        private volatile int processed;
+        private int ticks;
+        private ScheduledTask task;
+
+        RefreshJob(Queue<UUID> pending, CommandSender reportTo) {
+            this.pending = pending;
+            this.reportTo = reportTo;
+            this.total = pending.size();
+        }
+
+        void tick(GoggleManager goggleManager, int perTick) {
+            for (int i = 0; i < perTick && !pending.isEmpty(); i++) {
+                Player player = Bukkit.getPlayer(pending.poll());
+                processed++;
+                if (player == null) continue; // Logged out since the snapshot
+
+                player.getScheduler().run(plugin, t ->
+                        goggleManager.refreshVisibilityForPlayer(player, CollectibleTier.EVENT.getBit()), null);
+            }
+
+            ticks++;
+            if (reportTo == null) return;
+
+            if (isDone()) {
+                reportTo.sendMessage(Component.text("Event visibility refreshed for " + total + " player(s).",
+                        NamedTextColor.GREEN));
+            } else if (ticks % REPORT_INTERVAL_TICKS == 0) {
+                reportTo.sendMessage(Component.text("Event visibility refresh: " + processed + "/" + total,
+                        NamedTextColor.GRAY));
+            }
+        }
+
+        boolean isDone() {
+            return pending.isEmpty();
+        }
+
+        void cancel() {
+            if (task != null) {
+                task.cancel();
+            }
+            pending.clear();
+        }
+    }
+
     /**
      * Data class representing an active event.
      */
@@ -4,11 +4,14 @@ import com.blockworlds.collections.Collections;
 import com.blockworlds.collections.config.ConfigManager;
 import com.blockworlds.collections.model.Collectible;
 import com.blockworlds.collections.model.CollectibleTier;
+import com.blockworlds.collections.util.ChunkIndex;
 import com.blockworlds.collections.util.ItemBuilder;
 import com.blockworlds.collections.util.PDCKeys;
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
+import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
@@ -20,7 +23,10 @@ import org.bukkit.persistence.PersistentDataType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages goggle visibility for collectibles.
@@ -35,6 +41,16 @@ public class GoggleManager {
     private static final Set<CollectibleTier> BASIC_GOGGLES_TIERS = Set.of(CollectibleTier.UNCOMMON);
     private static final Set<CollectibleTier> MASTER_GOGGLES_TIERS = Set.of(CollectibleTier.UNCOMMON, CollectibleTier.RARE);
 
+    // Entities are revealed one chunk beyond render distance, since refreshes only run on chunk crossings
+    private static final int VISIBILITY_MARGIN = 16;
+
+    // Cached visibility bitmask per player (bits from CollectibleTier.getBit())
+    private final Map<UUID, VisibilityMask> visibilityMasks = new ConcurrentHashMap<>();
+
+    // Entity visibility applied to each player (player -> collectible ID -> shown)
+    // Missing entries mean the entities' default visibility
+    private final Map<UUID, Map<UUID, Boolean>> appliedVisibility = new ConcurrentHashMap<>();
+
     public GoggleManager(Collections plugin) {
         this.plugin = plugin;
         this.configManager = plugin.getConfigManager();
@@ -53,45 +69,84 @@ public class GoggleManager {
 
     /**
      * Check if a player can see collectibles of a specific tier.
+     * Uses the player's cached visibility mask, so this is a single bit test on the hot path.
      *
      * @param player The player to check
      * @param tier   The collectible tier
      * @return true if the player can see this tier
      */
     public boolean canPlayerSeeTier(Player player, CollectibleTier tier) {
-        // Check if goggles are disabled in config
-        if (!configManager.isGogglesEnabled()) {
-            return true; // All tiers visible when goggles disabled
+        return (getVisibilityMask(player) & tier.getBit()) != 0;
+    }
+
+    /**
+     * Get the cached visibility bitmask for a player, computing it if missing or stale.
+     * Bit {@code tier.getBit()} is set for every tier the player can currently see.
+     *
+     * @param player The player to check
+     * @return bitmask of visible tiers
+     */
+    public int getVisibilityMask(Player player) {
+        long now = System.currentTimeMillis();
+        VisibilityMask cached = visibilityMasks.get(player.getUniqueId());
+        if (cached != null && now - cached.computedAt() < configManager.getGogglePermissionRecheckMs()) {
+            return cached.bits();
         }
 
-        // COMMON tier is always visible
-        if (tier == CollectibleTier.COMMON) {
-            return true;
+        int bits = computeVisibilityMask(player);
+        visibilityMasks.put(player.getUniqueId(), new VisibilityMask(bits, now));
+        return bits;
+    }
+
+    /**
+     * Compute which tiers a player can see from config, permissions, goggles and events.
+     */
+    private int computeVisibilityMask(Player player) {
+        // All tiers visible when goggles disabled
+        if (!configManager.isGogglesEnabled()) {
+            return CollectibleTier.ALL_BITS;
         }
 
         // Check bypass permission
         if (player.hasPermission("collections.bypass.goggles")) {
-            return true;
+            return CollectibleTier.ALL_BITS;
         }
 
-        // EVENT tier: visible during active event OR with any goggles
-        if (tier == CollectibleTier.EVENT) {
-            EventManager eventManager = plugin.getEventManager();
-            if (eventManager != null && eventManager.isAnyEventActive()) {
-                return true; // Event is active, visible to all
+        // COMMON tier is always visible
+        int bits = CollectibleTier.COMMON.getBit();
+
+        // Get player's goggle tier (reads the helmet meta once)
+        CollectibleTier goggleTier = getPlayerGoggleTier(player);
+        if (goggleTier != null) {
+            for (CollectibleTier visible : getVisibleTiers(goggleTier)) {
+                bits |= visible.getBit();
             }
-            return hasAnyGoggles(player);
         }
 
-        // Get player's goggle tier
-        CollectibleTier goggleTier = getPlayerGoggleTier(player);
-        if (goggleTier == null) {
-            return false; // No goggles equipped
+        // EVENT tier: visible during active event OR with any goggles
+        EventManager eventManager = plugin.getEventManager();
+        if (goggleTier != null || (eventManager != null && eventManager.isAnyEventActive())) {
+            bits |= CollectibleTier.EVENT.getBit();
         }
 
-        // Check if the goggle tier grants visibility for the collectible tier
-        Set<CollectibleTier> visibleTiers = getVisibleTiers(goggleTier);
-        return visibleTiers.contains(tier);
+        return bits;
+    }
+
+    /**
+     * Drop a player's cached visibility mask so it is recomputed on next use.
+     * Call on helmet changes, join/quit and anything else that changes what a player can see.
+     *
+     * @param playerId The player's UUID
+     */
+    public void invalidateVisibility(UUID playerId) {
+        visibilityMasks.remove(playerId);
+    }
+
+    /**
+     * Drop all cached visibility masks (events starting/ending, config reload).
+     */
+    public void invalidateAllVisibility() {
+        visibilityMasks.clear();
     }
 
     /**
@@ -145,30 +200,58 @@ public class GoggleManager {
     }
 
     /**
-     * Refresh visibility of all collectibles for a player.
-     * Should be called when goggles are equipped/unequipped.
+     * Refresh visibility of nearby collectibles for a player.
+     * Only collectibles whose visibility differs from what was last applied are shown or hidden.
+     * Called when goggles are equipped/unequipped, events change, and when the player
+     * crosses into a new chunk or teleports.
      *
      * @param player The player to refresh visibility for
      */
     public void refreshVisibilityForPlayer(Player player) {
+        refreshVisibilityForPlayer(player, CollectibleTier.ALL_BITS);
+    }
+
+    /**
+     * Refresh visibility of nearby collectibles of the given tiers for a player.
+     *
+     * @param player The player to refresh visibility for
+     * @param tiers  Bitmask of tiers to refresh (from {@code CollectibleTier.getBit()})
+     */
+    public void refreshVisibilityForPlayer(Player player, int tiers) {
         SpawnManager spawnManager = plugin.getSpawnManager();
-        int renderDistance = configManager.getParticleDistanceBlocks();
+        if (spawnManager == null) return;
+
+        Location loc = player.getLocation();
+        World world = loc.getWorld();
+        if (world == null) return;
 
-        for (Collectible collectible : spawnManager.getActiveCollectibles()) {
-            if (!collectible.spawned()) continue;
+        int renderDistance = configManager.getParticleDistanceBlocks() + VISIBILITY_MARGIN;
+        double renderDistanceSquared = (double) renderDistance * renderDistance;
+        int mask = getVisibilityMask(player);
+        Map<UUID, Boolean> applied = getAppliedVisibility(player.getUniqueId());
 
-            // Check distance - store world reference to avoid multiple calls
-            org.bukkit.World collectibleWorld = collectible.location().getWorld();
-            if (collectibleWorld == null || !collectibleWorld.equals(player.getWorld())) {
-                continue;
-            }
+        String worldName = world.getName();
+        ChunkIndex chunkIndex = spawnManager.getChunkIndex();
+        int minChunkX = ChunkIndex.toChunk(loc.getX() - renderDistance);
+        int maxChunkX = ChunkIndex.toChunk(loc.getX() + renderDistance);
+        int minChunkZ = ChunkIndex.toChunk(loc.getZ() - renderDistance);
+        int maxChunkZ = ChunkIndex.toChunk(loc.getZ() + renderDistance);
 
-            double distance = player.getLocation().distance(collectible.location());
-            if (distance > renderDistance) continue;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!chunkIndex.isOccupied(worldName, chunkX, chunkZ)) continue;
 
-            // Update visibility
-            boolean canSee = canPlayerSeeCollectible(player, collectible);
-            setCollectibleVisibilityForPlayer(player, collectible, canSee);
+                for (UUID id : chunkIndex.get(worldName, chunkX, chunkZ)) {
+                    Collectible collectible = spawnManager.getCollectible(id);
+                    if (collectible == null || !collectible.spawned()) continue;
+                    if ((tiers & collectible.tier().getBit()) == 0) continue;
+
+                    if (loc.distanceSquared(collectible.location()) > renderDistanceSquared) continue;
+
+                    boolean canSee = (mask & collectible.tier().getBit()) != 0;
+                    applyVisibility(player, applied, collectible, canSee);
+                }
+            }
         }
     }
 
@@ -180,42 +263,111 @@ public class GoggleManager {
      * @param visible     Whether the player should see it
      */
     public void setCollectibleVisibilityForPlayer(Player player, Collectible collectible, boolean visible) {
-        // Get the hitbox entity (only entity now - no armor stand)
-        if (collectible.hitboxId() != null) {
-            Entity hitbox = Bukkit.getEntity(collectible.hitboxId());
-            if (hitbox != null) {
-                if (visible) {
-                    player.showEntity(plugin, hitbox);
-                } else {
-                    player.hideEntity(plugin, hitbox);
-                }
-            }
-        }
+        applyVisibility(player, getAppliedVisibility(player.getUniqueId()), collectible, visible);
     }
 
     /**
      * Setup initial visibility for a newly spawned collectible.
+     * Non-COMMON hitboxes spawn hidden, so this only reveals them to players who can see them.
      * Should be called after spawning a collectible.
      *
      * @param collectible The newly spawned collectible
      */
     public void setupInitialVisibility(Collectible collectible) {
-        org.bukkit.World world = collectible.location().getWorld();
+        World world = collectible.location().getWorld();
         if (world == null) return;
 
-        int renderDistance = configManager.getParticleDistanceBlocks();
+        int renderDistance = configManager.getParticleDistanceBlocks() + VISIBILITY_MARGIN;
+        double renderDistanceSquared = (double) renderDistance * renderDistance;
 
         for (Player player : world.getPlayers()) {
-            double distance = player.getLocation().distance(collectible.location());
-            if (distance > renderDistance) continue;
+            if (player.getLocation().distanceSquared(collectible.location()) > renderDistanceSquared) continue;
 
             boolean canSee = canPlayerSeeCollectible(player, collectible);
-            if (!canSee) {
-                setCollectibleVisibilityForPlayer(player, collectible, false);
-            }
+            applyVisibility(player, getAppliedVisibility(player.getUniqueId()), collectible, canSee);
+        }
+    }
+
+    /**
+     * Forget applied visibility for a collectible whose entities have been removed.
+     *
+     * @param collectibleId The collectible's UUID
+     */
+    public void forgetCollectible(UUID collectibleId) {
+        for (Map<UUID, Boolean> applied : appliedVisibility.values()) {
+            applied.remove(collectibleId);
+        }
+    }
+
+    /**
+     * Forget all visibility state for a player (on quit).
+     *
+     * @param playerId The player's UUID
+     */
+    public void forgetPlayer(UUID playerId) {
+        appliedVisibility.remove(playerId);
+        visibilityMasks.remove(playerId);
+    }
+
+    /**
+     * Whether a collectible's entities are shown to players that have no explicit override.
+     * Only COMMON entities are visible by default, everything else is revealed per player.
+     */
+    private boolean isVisibleByDefault(Collectible collectible) {
+        return collectible.tier() == CollectibleTier.COMMON;
+    }
+
+    /**
+     * Show or hide a collectible's entities for a player if it differs from what was last applied.
+     * Only deviations from the entity default are remembered.
+     */
+    private void applyVisibility(Player player, Map<UUID, Boolean> applied, Collectible collectible, boolean visible) {
+        UUID hitboxId = collectible.hitboxId();
+        UUID displayId = plugin.getSpawnManager().getDisplayId(collectible.id());
+        if (hitboxId == null && displayId == null) return;
+
+        boolean byDefault = isVisibleByDefault(collectible);
+        Boolean current = applied.get(collectible.id());
+        boolean currentlyVisible = current != null ? current : byDefault;
+        if (currentlyVisible == visible) return;
+
+        boolean changed = setEntityVisible(player, hitboxId, visible);
+        changed |= setEntityVisible(player, displayId, visible);
+        if (!changed) return;
+
+        if (visible == byDefault) {
+            applied.remove(collectible.id());
+        } else {
+            applied.put(collectible.id(), visible);
         }
     }
 
+    /**
+     * Show or hide a single entity for a player.
+     *
+     * @return true if the entity exists
+     */
+    private boolean setEntityVisible(Player player, UUID entityId, boolean visible) {
+        if (entityId == null) return false;
+
+        Entity entity = Bukkit.getEntity(entityId);
+        if (entity == null) return false;
+
+        if (visible) {
+            player.showEntity(plugin, entity);
+        } else {
+            player.hideEntity(plugin, entity);
+        }
+        return true;
+    }
+
+    /**
+     * Get the applied visibility overrides for a player.
+     */
+    private Map<UUID, Boolean> getAppliedVisibility(UUID playerId) {
+        return appliedVisibility.computeIfAbsent(playerId, id -> new ConcurrentHashMap<>());
+    }
+
     /**
      * Check if an item is a goggle item.
      *
@@ -355,4 +507,11 @@ public class GoggleManager {
             default -> createBasicGoggles(); // Default to basic
         };
     }
+
+    /**
+     * Cached visibility bits and when they were computed.
+     * Permission changes have no Bukkit event, so masks are re-checked after a short interval.
+     */
+    private record VisibilityMask(int bits, long computedAt) {
+    }
 }
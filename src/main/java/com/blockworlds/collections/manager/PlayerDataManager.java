@@ -1,36 +1,131 @@
 package com.blockworlds.collections.manager;
 
 import com.blockworlds.collections.model.PlayerProgress;
+import com.blockworlds.collections.storage.PlayerWrites;
 import com.blockworlds.collections.storage.Storage;
+import com.blockworlds.collections.storage.WriteBehindJournal;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
  * Manages player collection data with async loading and caching.
+ * Item and status changes go through a write-behind journal that batches them
+ * into periodic transactions, and are written only by it; quit and shutdown flush
+ * it, then save the player's totals.
+ *
+ * Progress is prefetched during async pre-login into a short-lived staging area and
+ * promoted into the cache on join, so it is normally ready before the player spawns.
  */
 public class PlayerDataManager {
 
+    // How long a prefetch waits to be claimed by a join before it is dropped
+    private static final long STAGING_TTL_MS = TimeUnit.SECONDS.toMillis(60);
+
+    // Reads tried before a load gives up; each retry waits a little longer
+    private static final int LOAD_ATTEMPTS = 3;
+    private static final long LOAD_RETRY_DELAY_MS = 1000;
+
+    /**
+     * A prefetched load waiting for its player to join.
+     */
+    private record StagedLoad(CompletableFuture<PlayerProgress> future, long expiresAt) {
+    }
+
     private final Plugin plugin;
     private final Storage storage;
     private final Map<UUID, PlayerProgress> cache;
     private final Map<UUID, CompletableFuture<PlayerProgress>> pendingLoads;
+    private final Map<UUID, StagedLoad> staged;
+    private final WriteBehindJournal journal;
 
     public PlayerDataManager(Plugin plugin, Storage storage) {
         this.plugin = plugin;
         this.storage = storage;
         this.cache = new ConcurrentHashMap<>();
         this.pendingLoads = new ConcurrentHashMap<>();
+        this.staged = new ConcurrentHashMap<>();
+        this.journal = new WriteBehindJournal(plugin, storage);
     }
 
     /**
-     * Load player data asynchronously. Called on player join.
+     * Start batching progress writes. Until started, each write is flushed on its own.
+     *
+     * @param flushIntervalMs Time between flushes (0 to write through)
+     * @param flushThreshold  Queued rows that trigger an early flush
+     */
+    public void startWriteBehind(long flushIntervalMs, int flushThreshold) {
+        journal.start(flushIntervalMs, flushThreshold);
+    }
+
+    /**
+     * Stop periodic flushing. Called on plugin disable, before {@link #saveAll()}.
+     */
+    public void stopWriteBehind() {
+        journal.stop();
+    }
+
+    /**
+     * Get the write-behind journal (for metrics).
+     */
+    public WriteBehindJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Start loading a player's data before they join. Called from async pre-login once
+     * the login is allowed; the result is staged until {@link #loadPlayer} claims it.
+     *
+     * If the player is still cached (they quit moments ago and their save is in flight),
+     * the cached progress is staged instead of reading a row that is about to change.
+     * The prefetch reads once; if it fails, the join loads again with retries.
+     *
+     * @param playerId The joining player's UUID
+     * @return CompletableFuture containing the prefetched progress
+     */
+    public CompletableFuture<PlayerProgress> prefetch(UUID playerId) {
+        expireStaged();
+
+        PlayerProgress cached = cache.get(playerId);
+        CompletableFuture<PlayerProgress> future = cached != null
+                ? CompletableFuture.completedFuture(cached)
+                : storage.loadPlayer(playerId).orTimeout(30, TimeUnit.SECONDS);
+        staged.put(playerId, new StagedLoad(future, System.currentTimeMillis() + STAGING_TTL_MS));
+        return future;
+    }
+
+    /**
+     * Drop a prefetch whose login was denied after it started.
+     *
+     * @param playerId The player's UUID
+     */
+    public void discardPrefetch(UUID playerId) {
+        staged.remove(playerId);
+    }
+
+    /**
+     * Drop prefetches nobody joined to claim.
+     */
+    private void expireStaged() {
+        long now = System.currentTimeMillis();
+        staged.values().removeIf(load -> load.expiresAt() < now);
+    }
+
+    /**
+     * Load player data asynchronously, promoting a prefetch if there is one. Called on player join.
+     *
+     * If storage cannot be read, nothing is cached and the future completes exceptionally;
+     * caching empty progress would let the next save overwrite the player's real data.
+     * The next call tries again.
      *
      * @param player The player to load data for
      * @return CompletableFuture containing the player's progress
@@ -41,29 +136,68 @@ public class PlayerDataManager {
         // Check cache first
         PlayerProgress cached = cache.get(playerId);
         if (cached != null) {
+            staged.remove(playerId);
             return CompletableFuture.completedFuture(cached);
         }
 
+        // A finished prefetch is promoted straight into the cache
+        StagedLoad prefetched = staged.get(playerId);
+        if (prefetched != null && prefetched.future().isDone() && !prefetched.future().isCompletedExceptionally()) {
+            staged.remove(playerId, prefetched);
+            PlayerProgress existing = cache.putIfAbsent(playerId, prefetched.future().join());
+            return CompletableFuture.completedFuture(existing != null ? existing : prefetched.future().join());
+        }
+
         // Use computeIfAbsent for atomic pending load handling
         // This prevents race conditions where load completes before put()
-        return pendingLoads.computeIfAbsent(playerId, id -> {
-            CompletableFuture<PlayerProgress> future = storage.loadPlayer(id)
-                    .orTimeout(30, TimeUnit.SECONDS)
-                    .thenApply(progress -> {
-                        cache.put(id, progress);
-                        pendingLoads.remove(id);
-                        return progress;
-                    })
-                    .exceptionally(throwable -> {
-                        plugin.getLogger().log(Level.WARNING,
-                                "Failed to load player data for " + id, throwable);
-                        pendingLoads.remove(id);
-                        // Return new progress on failure
-                        PlayerProgress newProgress = new PlayerProgress(id);
-                        cache.put(id, newProgress);
-                        return newProgress;
-                    });
-            return future;
+        CompletableFuture<PlayerProgress> created = new CompletableFuture<>();
+        CompletableFuture<PlayerProgress> pending = pendingLoads.computeIfAbsent(playerId, id -> created);
+        if (pending != created) {
+            return pending;
+        }
+
+        // Wired up outside computeIfAbsent: a prefetch may complete the chain synchronously.
+        // A prefetch still running is awaited; one that failed (read error, full read queue
+        // or timeout) falls back to a fresh load from storage.
+        StagedLoad inFlight = staged.remove(playerId);
+        CompletableFuture<PlayerProgress> source = inFlight != null
+                ? inFlight.future().exceptionallyCompose(throwable -> loadFromStorage(playerId))
+                : loadFromStorage(playerId);
+        source.whenComplete((progress, throwable) -> {
+            if (throwable == null) {
+                cache.put(playerId, progress);
+                pendingLoads.remove(playerId);
+                created.complete(progress);
+            } else {
+                plugin.getLogger().log(Level.WARNING,
+                        "Failed to load player data for " + playerId, throwable);
+                pendingLoads.remove(playerId);
+                created.completeExceptionally(throwable);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Read a player's progress from storage, retrying if the read fails
+     * (a full read queue or a database error).
+     */
+    private CompletableFuture<PlayerProgress> loadFromStorage(UUID playerId) {
+        CompletableFuture<PlayerProgress> result = new CompletableFuture<>();
+        loadFromStorage(playerId, 1, result);
+        return result;
+    }
+
+    private void loadFromStorage(UUID playerId, int attempt, CompletableFuture<PlayerProgress> result) {
+        storage.loadPlayer(playerId).whenComplete((progress, throwable) -> {
+            if (throwable == null) {
+                result.complete(progress);
+            } else if (attempt >= LOAD_ATTEMPTS || !plugin.isEnabled()) {
+                result.completeExceptionally(throwable);
+            } else {
+                Bukkit.getAsyncScheduler().runDelayed(plugin, task -> loadFromStorage(playerId, attempt + 1, result),
+                        LOAD_RETRY_DELAY_MS * attempt, TimeUnit.MILLISECONDS);
+            }
         });
     }
 
@@ -77,19 +211,58 @@ public class PlayerDataManager {
         return cache.get(playerId);
     }
 
+    /**
+     * Get cached player progress without loading or blocking.
+     *
+     * @param playerId The player's UUID
+     * @return The player's progress, or empty if not loaded yet
+     */
+    public Optional<PlayerProgress> tryProgress(UUID playerId) {
+        return Optional.ofNullable(cache.get(playerId));
+    }
+
+    /**
+     * Run an action with a player's progress on the thread that owns the player.
+     * Runs immediately if the progress is loaded and the caller already owns the player;
+     * otherwise it runs on the player's scheduler once loaded, and is skipped if they
+     * log out first or their data cannot be loaded. Never blocks.
+     *
+     * @param player The player
+     * @param action The action to run with their progress
+     */
+    public void withProgress(Player player, Consumer<PlayerProgress> action) {
+        // Cached or a finished prefetch: no need to wait a tick
+        CompletableFuture<PlayerProgress> load = loadPlayer(player);
+        if (load.isDone() && !load.isCompletedExceptionally() && Bukkit.isOwnedByCurrentRegion(player)) {
+            action.accept(load.join());
+            return;
+        }
+
+        load.thenAccept(progress ->
+                player.getScheduler().run(plugin, task -> action.accept(progress), null));
+    }
+
     /**
      * Get cached player progress, loading if necessary.
-     * This is a blocking operation if data isn't cached.
+     * This blocks until the load finishes if data isn't cached; a call on a tick
+     * thread is logged with its stack trace.
      *
      * @param player The player
      * @return The player's progress
+     * @deprecated Use {@link #withProgress} or {@link #tryProgress}, which never block
      */
+    @Deprecated
     public PlayerProgress getProgressOrLoad(Player player) {
         PlayerProgress cached = cache.get(player.getUniqueId());
         if (cached != null) {
             return cached;
         }
 
+        if (Bukkit.isPrimaryThread()) {
+            plugin.getLogger().log(Level.WARNING, "Blocking progress load on a tick thread for " + player.getName()
+                    + "; use withProgress or tryProgress instead", new Throwable("Called from"));
+        }
+
         try {
             return loadPlayer(player).get(30, TimeUnit.SECONDS);
         } catch (Exception e) {
@@ -111,7 +284,9 @@ public class PlayerDataManager {
             return CompletableFuture.completedFuture(null);
         }
 
-        return storage.savePlayer(progress)
+        // Items and statuses are written by the journal; the save after it only writes the totals
+        return journal.flushPlayer(playerId)
+                .thenCompose(ignored -> storage.savePlayer(progress))
                 .orTimeout(30, TimeUnit.SECONDS)
                 .exceptionally(throwable -> {
                     plugin.getLogger().log(Level.SEVERE,
@@ -129,8 +304,11 @@ public class PlayerDataManager {
     public CompletableFuture<Void> saveAndUnload(UUID playerId) {
         return savePlayer(playerId)
                 .thenRun(() -> {
-                    cache.remove(playerId);
-                    pendingLoads.remove(playerId);
+                    // They may have rejoined while the save ran; their prefetch took the cached copy
+                    if (Bukkit.getPlayer(playerId) == null) {
+                        cache.remove(playerId);
+                        pendingLoads.remove(playerId);
+                    }
                 });
     }
 
@@ -150,14 +328,9 @@ public class PlayerDataManager {
 
         boolean added = progress.addItem(collectionId, itemId);
         if (added) {
-            // Persist immediately
-            storage.saveCollectedItem(playerId, collectionId, itemId)
-                    .orTimeout(30, TimeUnit.SECONDS)
-                    .exceptionally(throwable -> {
-                        plugin.getLogger().log(Level.WARNING,
-                                "Failed to save collected item for " + playerId, throwable);
-                        return null;
-                    });
+            // The journal writes the item; the progress only keeps the totals for savePlayer
+            journal.recordItem(playerId, collectionId, itemId);
+            progress.untrackItem(collectionId, itemId);
         }
 
         return added;
@@ -176,15 +349,7 @@ public class PlayerDataManager {
         }
 
         progress.markComplete(collectionId);
-
-        // Persist immediately
-        storage.updateCollectionStatus(playerId, collectionId, true, false)
-                .orTimeout(30, TimeUnit.SECONDS)
-                .exceptionally(throwable -> {
-                    plugin.getLogger().log(Level.WARNING,
-                            "Failed to save collection completion for " + playerId, throwable);
-                    return null;
-                });
+        recordStatus(playerId, collectionId, progress);
     }
 
     /**
@@ -200,16 +365,21 @@ public class PlayerDataManager {
         }
 
         progress.claimReward(collectionId);
+        recordStatus(playerId, collectionId, progress);
+    }
 
-        // Persist immediately
-        storage.updateCollectionStatus(playerId, collectionId,
-                        progress.hasCompleted(collectionId), true)
-                .orTimeout(30, TimeUnit.SECONDS)
-                .exceptionally(throwable -> {
-                    plugin.getLogger().log(Level.WARNING,
-                            "Failed to save reward claim for " + playerId, throwable);
-                    return null;
-                });
+    /**
+     * Queue the current status of a collection.
+     */
+    private void recordStatus(UUID playerId, String collectionId, PlayerProgress progress) {
+        PlayerProgress.CollectionProgress colProgress = progress.getProgress(collectionId);
+        boolean complete = colProgress.isComplete();
+        long completedDate = complete
+                ? (colProgress.getCompletedDate() > 0 ? colProgress.getCompletedDate() : System.currentTimeMillis())
+                : 0;
+        journal.recordStatus(playerId, collectionId,
+                new PlayerWrites.CollectionStatus(complete, colProgress.isRewardClaimed(), completedDate));
+        progress.untrackStatus(collectionId);
     }
 
     /**
@@ -256,14 +426,14 @@ public class PlayerDataManager {
      */
     public CompletableFuture<Void> saveAll() {
         if (cache.isEmpty()) {
-            return CompletableFuture.completedFuture(null);
+            return journal.flush();
         }
 
-        CompletableFuture<?>[] futures = cache.keySet().stream()
-                .map(this::savePlayer)
-                .toArray(CompletableFuture[]::new);
-
-        return CompletableFuture.allOf(futures)
+        // One batched flush for everyone, then the full saves
+        return journal.flush()
+                .thenCompose(ignored -> CompletableFuture.allOf(cache.keySet().stream()
+                        .map(this::savePlayer)
+                        .toArray(CompletableFuture[]::new)))
                 .orTimeout(60, TimeUnit.SECONDS)
                 .exceptionally(throwable -> {
                     plugin.getLogger().log(Level.SEVERE,
@@ -297,6 +467,7 @@ public class PlayerDataManager {
     public void clearCache() {
         cache.clear();
         pendingLoads.clear();
+        staged.clear();
     }
 
     /**
@@ -308,9 +479,11 @@ public class PlayerDataManager {
         // Remove from cache
         cache.remove(playerId);
         pendingLoads.remove(playerId);
+        staged.remove(playerId);
 
-        // Reset in storage
-        storage.resetPlayer(playerId)
+        // Drop queued writes and reset in storage once in-flight flushes land
+        journal.discard(playerId);
+        journal.runAfterFlushes(() -> storage.resetPlayer(playerId))
                 .orTimeout(30, TimeUnit.SECONDS)
                 .exceptionally(throwable -> {
                     plugin.getLogger().log(Level.WARNING,
@@ -331,9 +504,11 @@ public class PlayerDataManager {
         if (progress != null) {
             progress.resetCollection(collectionId);
         }
+        staged.remove(playerId);
 
-        // Reset in storage
-        storage.resetPlayerCollection(playerId, collectionId)
+        // Drop queued writes and reset in storage once in-flight flushes land
+        journal.discard(playerId, collectionId);
+        journal.runAfterFlushes(() -> storage.resetPlayerCollection(playerId, collectionId))
                 .orTimeout(30, TimeUnit.SECONDS)
                 .exceptionally(throwable -> {
                     plugin.getLogger().log(Level.WARNING,
@@ -8,18 +8,30 @@ import com.blockworlds.collections.model.CollectionItem;
 import com.blockworlds.collections.model.SpawnZone;
 import com.blockworlds.collections.spawn.AdaptiveSpawnFinder;
 import com.blockworlds.collections.spawn.SpawnResult;
+import com.blockworlds.collections.storage.ChunkCollectibleStore;
+import com.blockworlds.collections.storage.CollectibleWriteQueue;
 import com.blockworlds.collections.storage.Storage;
+import com.blockworlds.collections.util.ChunkIndex;
+import com.blockworlds.collections.util.HeadUtil;
 import org.bukkit.*;
+import org.bukkit.entity.Display;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Interaction;
+import org.bukkit.entity.ItemDisplay;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.util.Transformation;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
@@ -34,15 +46,53 @@ public class SpawnManager {
     private final Storage storage;
     private final AdaptiveSpawnFinder spawnFinder;
 
+    // Virtual collectibles have no hitbox entity (read once, changing it needs a restart)
+    private final boolean virtual;
+
+    // Collectibles persisted in chunk PDC instead of the database (null in database mode)
+    private final ChunkCollectibleStore chunkStore;
+
+    // Batched database writes for collectibles (null in chunk storage mode)
+    private final CollectibleWriteQueue collectibleWrites;
+
+    // Database mode only: fetch each chunk's collectibles as it loads instead of all at startup
+    private final boolean lazyLoading;
+    // Chunks fetched successfully, per world (each is fetched once)
+    private final Map<String, Set<Long>> fetchedChunks = new ConcurrentHashMap<>();
+    // Chunks queued or being fetched, per world
+    private final Map<String, Set<Long>> fetchingChunks = new ConcurrentHashMap<>();
+    // Chunks waiting for the next batched fetch, per world
+    private final Map<String, Set<Long>> pendingFetches = new ConcurrentHashMap<>();
+    // Queued fetches wait until the zone counts are seeded
+    private volatile boolean fetchesReady;
+    // Stored collectibles spawned at or after this were counted into their zones at startup
+    private volatile long countedSince = Long.MAX_VALUE;
+    private final AtomicBoolean fetchScheduled = new AtomicBoolean();
+    private static final long CHUNK_FETCH_DELAY_MS = 50;
+
     // Active collectibles tracked by ID
     private final Map<UUID, Collectible> activeCollectibles = new ConcurrentHashMap<>();
 
+    // Display entity per collectible, for tiers rendered with displays instead of particles
+    private final Map<UUID, UUID> displayIds = new ConcurrentHashMap<>();
+
+    // Live entity (hitbox or display) -> owning collectible ID
+    private final Map<UUID, UUID> entityOwners = new ConcurrentHashMap<>();
+
+    // Active collectible IDs bucketed by chunk for nearby lookups
+    private final ChunkIndex chunkIndex = new ChunkIndex();
+
     // Count of collectibles per zone
     private final Map<String, Integer> collectibleCountByZone = new ConcurrentHashMap<>();
 
     // Respawn timers per zone (zone ID -> next spawn time)
     private final Map<String, Long> respawnTimers = new ConcurrentHashMap<>();
 
+    // Display rendering
+    private static final double DISPLAY_Y_OFFSET = 0.5;
+    private static final float DISPLAY_SCALE = 0.5f;
+    private static final int DISPLAY_GROW_TICKS = 10;
+
     // NamespacedKeys for entity metadata
     private final NamespacedKey COLLECTIBLE_KEY;
     private final NamespacedKey COLLECTIBLE_ID_KEY;
@@ -52,6 +102,7 @@ public class SpawnManager {
     // Spawn task
     private ScheduledTask spawnTask;
     private ScheduledTask validityTask;
+    private long spawnCheckCount;
 
     public SpawnManager(Collections plugin) {
         this.plugin = plugin;
@@ -59,6 +110,11 @@ public class SpawnManager {
         this.collectionManager = plugin.getCollectionManager();
         this.storage = plugin.getStorage();
         this.spawnFinder = new AdaptiveSpawnFinder(plugin, plugin.getConfigManager());
+        this.virtual = plugin.getConfigManager().isVirtualCollectibles();
+        this.chunkStore = plugin.getConfigManager().isChunkCollectibleStorage()
+                ? new ChunkCollectibleStore(plugin) : null;
+        this.collectibleWrites = chunkStore == null ? new CollectibleWriteQueue(plugin, storage) : null;
+        this.lazyLoading = chunkStore == null && plugin.getConfigManager().isLazyCollectibleLoading();
 
         // Initialize keys
         COLLECTIBLE_KEY = new NamespacedKey(plugin, "collectible");
@@ -71,6 +127,65 @@ public class SpawnManager {
      * Initialize the spawn manager - load existing collectibles and start tasks.
      */
     public void initialize() {
+        if (chunkStore != null) {
+            // Chunk storage: collectibles are registered as their chunks load. Chunks already
+            // loaded are registered first, so zone counts are right before the first spawn check
+            loadAlreadyLoadedChunks()
+                    .orTimeout(30, TimeUnit.SECONDS)
+                    .whenComplete((ignored, throwable) -> {
+                        if (throwable != null) {
+                            plugin.getLogger().log(Level.WARNING, "Failed to register collectibles in loaded chunks", throwable);
+                        }
+                        startSpawnTask();
+                        startValidityTask();
+                        plugin.getLogger().info("SpawnManager initialized with chunk collectible storage ("
+                                + activeCollectibles.size() + " active collectibles)");
+                    });
+            return;
+        }
+
+        collectibleWrites.start(plugin.getConfigManager().getWriteBehindFlushIntervalMs(),
+                plugin.getConfigManager().getWriteBehindFlushThreshold());
+
+        if (lazyLoading) {
+            // Lazy loading: collectibles are fetched from the database as their chunks load.
+            // Zone counts are seeded from the database first and the loaded chunks fetched,
+            // so the first spawn check doesn't fill zones whose collectibles aren't loaded yet
+            long despawnMs = plugin.getConfigManager().getDespawnAfterMinutes() * 60 * 1000L;
+            long since = despawnMs > 0 ? System.currentTimeMillis() - despawnMs : Long.MIN_VALUE;
+            Map<String, List<Long>> loadedChunks = new HashMap<>();
+            for (World world : Bukkit.getWorlds()) {
+                List<Long> keys = loadedChunks.computeIfAbsent(world.getName(), name -> new ArrayList<>());
+                for (Chunk chunk : world.getLoadedChunks()) {
+                    keys.add(ChunkIndex.chunkKey(chunk.getX(), chunk.getZ()));
+                }
+            }
+            storage.countCollectiblesByZone(since)
+                    .handle((counts, throwable) -> {
+                        if (throwable != null) {
+                            plugin.getLogger().log(Level.WARNING,
+                                    "Failed to count stored collectibles; zones may be overfilled", throwable);
+                        } else {
+                            counts.forEach((zoneId, count) -> collectibleCountByZone.merge(zoneId, count, Integer::sum));
+                            countedSince = since;
+                        }
+                        fetchesReady = true;
+                        return null;
+                    })
+                    .thenCompose(ignored -> CompletableFuture.allOf(
+                            fetchLoadedChunks(loadedChunks), fetchPendingChunks()))
+                    .orTimeout(60, TimeUnit.SECONDS)
+                    .whenComplete((ignored, throwable) -> {
+                        if (throwable != null) {
+                            plugin.getLogger().log(Level.WARNING, "Failed to fetch collectibles in loaded chunks", throwable);
+                        }
+                        startSpawnTask();
+                        startValidityTask();
+                        plugin.getLogger().info("SpawnManager initialized with lazy collectible loading");
+                    });
+            return;
+        }
+
         // Load existing collectibles from database, then start tasks
         // This prevents race conditions where spawn task runs before load completes
         loadExistingCollectibles()
@@ -86,7 +201,7 @@ public class SpawnManager {
     }
 
     /**
-     * Shutdown the spawn manager - stop tasks.
+     * Shutdown the spawn manager - stop tasks and flush queued collectible writes.
      */
     public void shutdown() {
         if (spawnTask != null) {
@@ -95,6 +210,14 @@ public class SpawnManager {
         if (validityTask != null) {
             validityTask.cancel();
         }
+        if (collectibleWrites != null) {
+            collectibleWrites.stop();
+            try {
+                collectibleWrites.flush().get(30, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to flush collectible writes on shutdown", e);
+            }
+        }
     }
 
     /**
@@ -106,7 +229,12 @@ public class SpawnManager {
         return storage.loadAllCollectibles()
                 .thenAccept(collectibles -> {
                     for (Collectible collectible : collectibles) {
+                        // Virtual collectibles need no entity, so they are live straight away
+                        if (virtual) {
+                            collectible = collectible.withSpawned(true);
+                        }
                         activeCollectibles.put(collectible.id(), collectible);
+                        indexCollectible(collectible);
                         collectibleCountByZone.merge(collectible.zoneId(), 1, Integer::sum);
                     }
                     plugin.getLogger().info("Loaded " + collectibles.size() + " collectibles from database");
@@ -117,6 +245,301 @@ public class SpawnManager {
                 });
     }
 
+    /**
+     * Register collectibles from chunks that were loaded before the plugin enabled,
+     * each on its own region thread.
+     *
+     * @return CompletableFuture that completes once every chunk has been registered
+     */
+    private CompletableFuture<Void> loadAlreadyLoadedChunks() {
+        List<CompletableFuture<Void>> registered = new ArrayList<>();
+        for (World world : Bukkit.getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                registered.add(done);
+                Bukkit.getRegionScheduler().execute(plugin, world, chunk.getX(), chunk.getZ(), () -> {
+                    try {
+                        loadChunk(chunk);
+                        for (Collectible collectible : getCollectiblesInChunk(world, chunk.getX(), chunk.getZ())) {
+                            recreateEntities(collectible);
+                        }
+                        done.complete(null);
+                    } catch (RuntimeException e) {
+                        done.completeExceptionally(e);
+                    }
+                });
+            }
+        }
+        return CompletableFuture.allOf(registered.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Register the collectibles stored for a chunk that just loaded.
+     *
+     * In chunk storage mode they are read from the chunk's PDC; entries that expired, were
+     * cleared while the chunk was unloaded, or would push their zone over its limit are
+     * dropped and the chunk is rewritten. With lazy loading the chunk is queued for a
+     * batched database fetch instead. Does nothing otherwise.
+     * Must run on the chunk's region thread.
+     *
+     * @param chunk The chunk that just loaded
+     */
+    public void loadChunk(Chunk chunk) {
+        if (lazyLoading) {
+            queueChunkFetch(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+            return;
+        }
+        if (chunkStore == null) return;
+
+        List<Collectible> stored = chunkStore.load(chunk);
+        if (stored.isEmpty()) return;
+
+        long despawnMs = plugin.getConfigManager().getDespawnAfterMinutes() * 60 * 1000L;
+        long now = System.currentTimeMillis();
+        boolean dropped = false;
+
+        for (Collectible collectible : stored) {
+            if (activeCollectibles.containsKey(collectible.id())) continue;
+
+            boolean cleared = collectible.spawnedAt() < chunkStore.getClearEpoch(chunk.getWorld(), collectible.zoneId());
+            if (cleared || !registerStored(collectible, despawnMs, now)) {
+                dropped = true;
+            }
+        }
+
+        if (dropped) {
+            chunkStore.write(chunk, getCollectiblesInChunk(chunk.getWorld(), chunk.getX(), chunk.getZ()));
+        }
+    }
+
+    /**
+     * Start tracking a stored collectible, unless it expired or its zone is gone or full.
+     *
+     * With lazy loading, collectibles stored when the server started are already in their
+     * zone's count, so they only take it over the max if the zone really was overfilled.
+     *
+     * @return false if the collectible should be dropped from storage
+     */
+    private boolean registerStored(Collectible collectible, long despawnMs, long now) {
+        String zoneId = collectible.zoneId();
+        SpawnZone zone = zoneManager.getZone(zoneId);
+        boolean counted = lazyLoading && collectible.spawnedAt() >= countedSince;
+        boolean expired = despawnMs > 0 && now - collectible.spawnedAt() >= despawnMs;
+        int others = getCountInZone(zoneId) - (counted ? 1 : 0);
+        boolean full = zone != null && others >= zone.maxCollectibles();
+        if (zone == null || expired || full) {
+            if (counted) {
+                collectibleCountByZone.computeIfPresent(zoneId, (k, v) -> Math.max(0, v - 1));
+            }
+            return false;
+        }
+
+        if (virtual) {
+            collectible = collectible.withSpawned(true);
+        }
+        activeCollectibles.put(collectible.id(), collectible);
+        indexCollectible(collectible);
+        if (!counted) {
+            collectibleCountByZone.merge(zoneId, 1, Integer::sum);
+        }
+        return true;
+    }
+
+    /**
+     * Queue a chunk for the next batched database fetch (lazy loading only).
+     * Each chunk is fetched once; later saves and removals are tracked in memory.
+     * A failed fetch is retried the next time the chunk loads.
+     */
+    private void queueChunkFetch(String worldName, int chunkX, int chunkZ) {
+        long key = ChunkIndex.chunkKey(chunkX, chunkZ);
+        if (fetchedChunks.getOrDefault(worldName, Set.of()).contains(key)
+                || !fetchingChunks.computeIfAbsent(worldName, name -> ConcurrentHashMap.newKeySet()).add(key)) {
+            return;
+        }
+
+        pendingFetches.computeIfAbsent(worldName, name -> ConcurrentHashMap.newKeySet()).add(key);
+        if (fetchScheduled.compareAndSet(false, true)) {
+            // Give a burst of chunk loads a moment to pile up so they share queries
+            Bukkit.getAsyncScheduler().runDelayed(plugin, task -> fetchPendingChunks(),
+                    CHUNK_FETCH_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Fetch every queued chunk, one bulk query per world.
+     *
+     * @return CompletableFuture that completes once every fetch has been attempted
+     */
+    private CompletableFuture<Void> fetchPendingChunks() {
+        fetchScheduled.set(false);
+        if (!fetchesReady) {
+            // Startup fetches everything queued once the zone counts are seeded
+            return CompletableFuture.completedFuture(null);
+        }
+
+        List<CompletableFuture<Void>> fetches = new ArrayList<>();
+        for (Map.Entry<String, Set<Long>> entry : pendingFetches.entrySet()) {
+            // Drain by element so keys added concurrently are never lost with the set
+            List<Long> keys = new ArrayList<>();
+            for (Iterator<Long> it = entry.getValue().iterator(); it.hasNext(); ) {
+                keys.add(it.next());
+                it.remove();
+            }
+            if (keys.isEmpty()) continue;
+
+            fetches.add(fetchChunks(entry.getKey(), keys));
+        }
+        return CompletableFuture.allOf(fetches.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Fetch the chunks that were already loaded at startup (lazy loading only).
+     * Chunks the chunk listener queued in the meantime are left to the queued fetch.
+     *
+     * @param loadedChunks Chunk keys per world
+     * @return CompletableFuture that completes once every fetch has been attempted
+     */
+    private CompletableFuture<Void> fetchLoadedChunks(Map<String, List<Long>> loadedChunks) {
+        List<CompletableFuture<Void>> fetches = new ArrayList<>();
+        for (Map.Entry<String, List<Long>> entry : loadedChunks.entrySet()) {
+            Set<Long> fetching = fetchingChunks.computeIfAbsent(entry.getKey(), name -> ConcurrentHashMap.newKeySet());
+            List<Long> keys = new ArrayList<>();
+            for (long key : entry.getValue()) {
+                if (fetching.add(key)) {
+                    keys.add(key);
+                }
+            }
+            if (!keys.isEmpty()) {
+                fetches.add(fetchChunks(entry.getKey(), keys));
+            }
+        }
+        return CompletableFuture.allOf(fetches.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Fetch and register the collectibles in chunks already marked as fetching.
+     *
+     * @return CompletableFuture that completes once the fetch has been attempted
+     */
+    private CompletableFuture<Void> fetchChunks(String worldName, List<Long> keys) {
+        return storage.loadCollectiblesInChunks(worldName, keys)
+                .thenAccept(fetched -> {
+                    registerFetched(worldName, fetched);
+                    // Marked fetched before it stops being pending, so it is never queued twice
+                    fetchedChunks.computeIfAbsent(worldName, name -> ConcurrentHashMap.newKeySet()).addAll(keys);
+                })
+                .exceptionally(throwable -> {
+                    plugin.getLogger().log(Level.WARNING,
+                            "Failed to load collectibles for " + keys.size() + " chunks in " + worldName, throwable);
+                    return null;
+                })
+                // Failed chunks leave the pending set unfetched, so their next load retries
+                .thenRun(() -> fetchingChunks.get(worldName).removeAll(keys));
+    }
+
+    /**
+     * Check if a chunk's collectibles are still being fetched (lazy loading only).
+     * Until the fetch lands, entities of the chunk's collectibles are not tracked yet.
+     *
+     * @param worldName The world name
+     * @param chunkX    The chunk X coordinate
+     * @param chunkZ    The chunk Z coordinate
+     * @return true if the chunk is queued or being fetched
+     */
+    public boolean isChunkFetchPending(String worldName, int chunkX, int chunkZ) {
+        return lazyLoading
+                && fetchingChunks.getOrDefault(worldName, Set.of()).contains(ChunkIndex.chunkKey(chunkX, chunkZ));
+    }
+
+    /**
+     * Track collectibles fetched for loaded chunks and recreate their entities.
+     * Collectibles that can't be tracked are removed from the database.
+     */
+    private void registerFetched(String worldName, List<Collectible> fetched) {
+        long despawnMs = plugin.getConfigManager().getDespawnAfterMinutes() * 60 * 1000L;
+        long now = System.currentTimeMillis();
+        Map<Long, List<UUID>> byChunk = new HashMap<>();
+
+        for (Collectible collectible : fetched) {
+            if (activeCollectibles.containsKey(collectible.id())) continue;
+
+            if (!registerStored(collectible, despawnMs, now)) {
+                collectibleWrites.recordRemove(collectible.id(), collectible.zoneId());
+                continue;
+            }
+            long key = ChunkIndex.chunkKey(ChunkIndex.toChunk(collectible.location().getX()),
+                    ChunkIndex.toChunk(collectible.location().getZ()));
+            byChunk.computeIfAbsent(key, k -> new ArrayList<>()).add(collectible.id());
+        }
+
+        World world = Bukkit.getWorld(worldName);
+        if (virtual || world == null) return;
+
+        // The chunk load event has passed, so recreate entities here; chunks whose
+        // entities are still loading are picked up by the chunk listener
+        for (Map.Entry<Long, List<UUID>> entry : byChunk.entrySet()) {
+            int chunkX = (int) (entry.getKey() >> 32);
+            int chunkZ = (int) (long) entry.getKey();
+            Bukkit.getRegionScheduler().execute(plugin, world, chunkX, chunkZ, () -> {
+                if (!world.isChunkLoaded(chunkX, chunkZ) || !world.getChunkAt(chunkX, chunkZ).isEntitiesLoaded()) {
+                    return;
+                }
+                for (UUID collectibleId : entry.getValue()) {
+                    Collectible collectible = activeCollectibles.get(collectibleId);
+                    if (collectible != null) {
+                        recreateEntities(collectible);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Write a chunk's tracked collectibles back to its PDC (chunk storage mode only).
+     */
+    private void persistChunk(Location location) {
+        World world = location.getWorld();
+        if (world == null) return;
+
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        Bukkit.getRegionScheduler().execute(plugin, world, chunkX, chunkZ, () -> {
+            // Unloaded chunks are reconciled on next load (expiry and clear epochs)
+            if (!world.isChunkLoaded(chunkX, chunkZ)) return;
+            chunkStore.write(world.getChunkAt(chunkX, chunkZ), getCollectiblesInChunk(world, chunkX, chunkZ));
+        });
+    }
+
+    /**
+     * Record a clear: one queued DELETE in database mode, or clear epochs in chunk storage
+     * so collectibles in unloaded chunks are dropped when they load.
+     *
+     * @param zoneId The cleared zone, or null for all zones
+     */
+    private void recordClear(String zoneId) {
+        if (chunkStore == null) {
+            // One DELETE in the next batch instead of one per collectible
+            collectibleWrites.recordClear(zoneId);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Bukkit.getGlobalRegionScheduler().execute(plugin, () -> {
+            if (zoneId == null) {
+                for (World world : Bukkit.getWorlds()) {
+                    chunkStore.recordClear(world, null, now);
+                }
+                return;
+            }
+
+            SpawnZone zone = zoneManager.getZone(zoneId);
+            World world = zone != null ? Bukkit.getWorld(zone.worldName()) : null;
+            if (world != null) {
+                chunkStore.recordClear(world, zoneId, now);
+            }
+        });
+    }
+
     /**
      * Start the periodic spawn check task.
      */
@@ -144,9 +567,19 @@ public class SpawnManager {
      * Check all zones and spawn collectibles where needed.
      */
     private void checkAndSpawnCollectibles() {
+        WorldActivityTracker activity = plugin.getWorldActivityTracker();
+        int trickleEvery = plugin.getConfigManager().getIdleWorldSpawnEveryNthCheck();
+        boolean trickle = trickleEvery > 0 && ++spawnCheckCount % trickleEvery == 0;
+
+        // Nobody online and no trickle due - skip zone scanning entirely
+        if (!trickle && !activity.isServerActive()) return;
+
         for (SpawnZone zone : zoneManager.getAllZones().values()) {
             if (!zone.enabled()) continue;
 
+            // Idle worlds only spawn on trickle checks
+            if (!trickle && !activity.isActive(zone.worldName())) continue;
+
             int currentCount = collectibleCountByZone.getOrDefault(zone.id(), 0);
             if (currentCount >= zone.maxCollectibles()) continue;
 
@@ -323,11 +756,15 @@ public class SpawnManager {
 
         // Spawn the interaction entity (invisible hitbox for clicking)
         // Particles are handled by ParticleTask, action bar prompt by ActionBarPromptTask
-        Interaction hitbox = world.spawn(location, Interaction.class, interaction -> {
+        // Virtual collectibles skip the entity and are clicked by ray-cast instead
+        Interaction hitbox = virtual ? null : world.spawn(location, Interaction.class, interaction -> {
             interaction.setInteractionWidth(1.0f);
             interaction.setInteractionHeight(1.5f);
             interaction.setPersistent(false); // We manage persistence ourselves
 
+            // Higher tiers are only revealed to players whose goggles allow it
+            interaction.setVisibleByDefault(tier == CollectibleTier.COMMON);
+
             // Store metadata on the hitbox
             PersistentDataContainer pdc = interaction.getPersistentDataContainer();
             pdc.set(COLLECTIBLE_KEY, PersistentDataType.BOOLEAN, true);
@@ -339,7 +776,7 @@ public class SpawnManager {
         // Create the collectible record with the pre-selected item
         Collectible collectible = new Collectible(
                 collectibleId,
-                hitbox.getUniqueId(),
+                hitbox != null ? hitbox.getUniqueId() : null,
                 zone.id(),
                 collection.id(),
                 item.id(),
@@ -351,10 +788,22 @@ public class SpawnManager {
 
         // Track it
         activeCollectibles.put(collectibleId, collectible);
+        if (hitbox != null) {
+            entityOwners.put(hitbox.getUniqueId(), collectibleId);
+        }
+        indexCollectible(collectible);
         collectibleCountByZone.merge(zone.id(), 1, Integer::sum);
 
-        // Save to database
-        storage.saveCollectible(collectible);
+        // Render with a display entity if configured, then apply goggle visibility for nearby players
+        spawnDisplayIfConfigured(collectible);
+        updateVisibility(collectible);
+
+        // Save to database, or to the chunk in chunk storage mode
+        if (chunkStore != null) {
+            persistChunk(location);
+        } else {
+            collectibleWrites.recordSave(collectible);
+        }
 
         if (plugin.getConfigManager().isDebugMode()) {
             plugin.getLogger().info("Spawned collectible " + collectibleId +
@@ -388,6 +837,8 @@ public class SpawnManager {
     public void despawnCollectible(UUID collectibleId, boolean removeFromDatabase) {
         Collectible collectible = activeCollectibles.remove(collectibleId);
         if (collectible == null) return;
+        collectible.claim().retire();
+        unindexCollectible(collectible);
 
         // Decrement zone count
         collectibleCountByZone.computeIfPresent(collectible.zoneId(), (k, v) -> Math.max(0, v - 1));
@@ -403,7 +854,11 @@ public class SpawnManager {
         }
 
         if (removeFromDatabase) {
-            storage.removeCollectible(collectibleId);
+            if (chunkStore != null) {
+                persistChunk(collectible.location());
+            } else {
+                collectibleWrites.recordRemove(collectibleId, collectible.zoneId());
+            }
         }
 
         if (plugin.getConfigManager().isDebugMode()) {
@@ -411,24 +866,109 @@ public class SpawnManager {
         }
     }
 
+    /**
+     * Add a collectible to the chunk index.
+     */
+    private void indexCollectible(Collectible collectible) {
+        Location loc = collectible.location();
+        if (loc.getWorld() == null) return;
+        chunkIndex.addAtBlock(loc.getWorld().getName(), loc.getX(), loc.getZ(), collectible.id());
+    }
+
+    /**
+     * Remove a collectible from the chunk index.
+     */
+    private void unindexCollectible(Collectible collectible) {
+        Location loc = collectible.location();
+        if (loc.getWorld() == null) return;
+        chunkIndex.removeAtBlock(loc.getWorld().getName(), loc.getX(), loc.getZ(), collectible.id());
+    }
+
     /**
      * Remove the entities associated with a collectible.
      */
     private void removeCollectibleEntities(Collectible collectible) {
-        // Remove hitbox (the only entity now - no armor stand)
+        // Remove hitbox
         if (collectible.hitboxId() != null) {
+            entityOwners.remove(collectible.hitboxId());
             Entity hitbox = Bukkit.getEntity(collectible.hitboxId());
             if (hitbox != null) {
                 hitbox.remove();
             }
         }
+
+        // Remove display, if this tier renders one
+        UUID displayId = displayIds.remove(collectible.id());
+        if (displayId != null) {
+            entityOwners.remove(displayId);
+            Entity display = Bukkit.getEntity(displayId);
+            if (display != null) {
+                display.remove();
+            }
+        }
+
+        GoggleManager goggleManager = plugin.getGoggleManager();
+        if (goggleManager != null) {
+            goggleManager.forgetCollectible(collectible.id());
+        }
+    }
+
+    /**
+     * Spawn the glowing item display for a collectible if its tier is configured to render one.
+     * The display is static on the server; it grows in once via client-side interpolation
+     * and billboarding keeps it facing each viewer without further packets.
+     */
+    private void spawnDisplayIfConfigured(Collectible collectible) {
+        CollectibleTier tier = collectible.tier();
+        if (virtual || !plugin.getConfigManager().isDisplayRendered(tier)) return;
+
+        World world = collectible.location().getWorld();
+        if (world == null) return;
+
+        Location location = collectible.location().clone().add(0, DISPLAY_Y_OFFSET, 0);
+        ItemDisplay display = world.spawn(location, ItemDisplay.class, itemDisplay -> {
+            itemDisplay.setItemStack(HeadUtil.createCollectibleHead(tier));
+            itemDisplay.setBillboard(Display.Billboard.CENTER);
+            itemDisplay.setGlowing(true);
+            itemDisplay.setGlowColorOverride(Color.fromRGB(tier.getColor().value()));
+            itemDisplay.setPersistent(false);
+            itemDisplay.setVisibleByDefault(tier == CollectibleTier.COMMON);
+            itemDisplay.setTransformation(displayTransformation(0f));
+
+            PersistentDataContainer pdc = itemDisplay.getPersistentDataContainer();
+            pdc.set(COLLECTIBLE_KEY, PersistentDataType.BOOLEAN, true);
+            pdc.set(COLLECTIBLE_ID_KEY, PersistentDataType.STRING, collectible.id().toString());
+        });
+        displayIds.put(collectible.id(), display.getUniqueId());
+        entityOwners.put(display.getUniqueId(), collectible.id());
+
+        // Grow to full size on the client
+        display.getScheduler().runDelayed(plugin, task -> {
+            display.setInterpolationDelay(0);
+            display.setInterpolationDuration(DISPLAY_GROW_TICKS);
+            display.setTransformation(displayTransformation(DISPLAY_SCALE));
+        }, null, 2L);
+    }
+
+    private static Transformation displayTransformation(float scale) {
+        return new Transformation(new Vector3f(), new AxisAngle4f(), new Vector3f(scale), new AxisAngle4f());
+    }
+
+    /**
+     * Reveal freshly spawned entities to nearby players whose goggles allow it.
+     */
+    private void updateVisibility(Collectible collectible) {
+        GoggleManager goggleManager = plugin.getGoggleManager();
+        if (goggleManager != null) {
+            goggleManager.setupInitialVisibility(collectible);
+        }
     }
 
     /**
      * Recreate entities for a collectible (after chunk load).
      */
     public void recreateEntities(Collectible collectible) {
-        if (collectible.spawned()) return;
+        if (collectible.spawned() || virtual) return;
 
         World world = collectible.location().getWorld();
         if (world == null) return;
@@ -448,6 +988,7 @@ public class SpawnManager {
             interaction.setInteractionWidth(1.0f);
             interaction.setInteractionHeight(1.5f);
             interaction.setPersistent(false);
+            interaction.setVisibleByDefault(tier == CollectibleTier.COMMON);
 
             PersistentDataContainer pdc = interaction.getPersistentDataContainer();
             pdc.set(COLLECTIBLE_KEY, PersistentDataType.BOOLEAN, true);
@@ -459,12 +1000,19 @@ public class SpawnManager {
         // Update the collectible with new hitbox ID
         Collectible updated = collectible.withHitbox(hitbox.getUniqueId());
         activeCollectibles.put(updated.id(), updated);
+        entityOwners.put(hitbox.getUniqueId(), updated.id());
+
+        // Render with a display entity if configured, then apply goggle visibility for nearby players
+        spawnDisplayIfConfigured(updated);
+        updateVisibility(updated);
     }
 
     /**
      * Mark a collectible as unspawned (for chunk unload).
      */
     public void markUnspawned(Collectible collectible) {
+        if (virtual) return; // Nothing to remove, stays live
+
         removeCollectibleEntities(collectible);
         Collectible updated = collectible.withSpawned(false);
         activeCollectibles.put(updated.id(), updated);
@@ -506,6 +1054,9 @@ public class SpawnManager {
                 continue;
             }
 
+            // Idle worlds only get the expiry check (location checks would load chunks)
+            if (!plugin.getWorldActivityTracker().isActive(world)) continue;
+
             // Check if location is still valid
             SpawnZone zone = zoneManager.getZone(collectible.zoneId());
             if (zone == null || !zoneManager.isValidSpawnLocation(zone, loc)) {
@@ -537,12 +1088,18 @@ public class SpawnManager {
      * Get a collectible by entity UUID (hitbox).
      */
     public Collectible getCollectibleByEntity(UUID entityId) {
-        for (Collectible collectible : activeCollectibles.values()) {
-            if (entityId.equals(collectible.hitboxId())) {
-                return collectible;
-            }
-        }
-        return null;
+        UUID owner = entityOwners.get(entityId);
+        if (owner == null) return null;
+
+        Collectible collectible = activeCollectibles.get(owner);
+        return collectible != null && entityId.equals(collectible.hitboxId()) ? collectible : null;
+    }
+
+    /**
+     * Check if an entity is the current hitbox or display of the given collectible.
+     */
+    public boolean isTrackedEntity(UUID entityId, UUID collectibleId) {
+        return collectibleId.equals(entityOwners.get(entityId));
     }
 
     /**
@@ -552,40 +1109,73 @@ public class SpawnManager {
         return java.util.Collections.unmodifiableCollection(activeCollectibles.values());
     }
 
+    /**
+     * Get collectibles in a world.
+     */
+    public List<Collectible> getCollectiblesInWorld(String worldName) {
+        List<Collectible> result = new ArrayList<>();
+        forEachCollectibleInWorld(worldName, result::add);
+        return result;
+    }
+
+    /**
+     * Run an action for every collectible in a world without building a list.
+     * For per-tick callers; the world's index buckets are walked in place.
+     */
+    public void forEachCollectibleInWorld(String worldName, Consumer<Collectible> action) {
+        chunkIndex.forEachInWorld(worldName, id -> {
+            Collectible collectible = activeCollectibles.get(id);
+            if (collectible != null) {
+                action.accept(collectible);
+            }
+        });
+    }
+
     /**
      * Get collectibles in a specific chunk.
      */
     public List<Collectible> getCollectiblesInChunk(World world, int chunkX, int chunkZ) {
         List<Collectible> result = new ArrayList<>();
-        int minX = chunkX << 4;
-        int maxX = minX + 15;
-        int minZ = chunkZ << 4;
-        int maxZ = minZ + 15;
-
-        for (Collectible collectible : activeCollectibles.values()) {
-            Location loc = collectible.location();
-            if (loc.getWorld() != null && loc.getWorld().equals(world)) {
-                int x = loc.getBlockX();
-                int z = loc.getBlockZ();
-                if (x >= minX && x <= maxX && z >= minZ && z <= maxZ) {
-                    result.add(collectible);
-                }
+        for (UUID id : chunkIndex.get(world.getName(), chunkX, chunkZ)) {
+            Collectible collectible = activeCollectibles.get(id);
+            if (collectible != null) {
+                result.add(collectible);
             }
         }
         return result;
     }
 
+    /**
+     * Get the collectible write queue (for metrics), or null in chunk storage mode.
+     */
+    public CollectibleWriteQueue getCollectibleWrites() {
+        return collectibleWrites;
+    }
+
+    /**
+     * Get the chunk index of active collectibles.
+     */
+    public ChunkIndex getChunkIndex() {
+        return chunkIndex;
+    }
+
     /**
      * Clear all collectibles in a zone.
      */
     public int clearZone(String zoneId) {
+        recordClear(zoneId);
         int count = 0;
         for (Collectible collectible : new ArrayList<>(activeCollectibles.values())) {
             if (collectible.zoneId().equals(zoneId)) {
-                despawnCollectible(collectible.id(), true);
+                // recordClear already covers the database rows
+                despawnCollectible(collectible.id(), chunkStore != null);
                 count++;
             }
         }
+        if (lazyLoading) {
+            // The clear also removed the zone's collectibles that were counted but not fetched
+            collectibleCountByZone.remove(zoneId);
+        }
         return count;
     }
 
@@ -593,9 +1183,14 @@ public class SpawnManager {
      * Clear all collectibles.
      */
     public int clearAll() {
+        recordClear(null);
         int count = activeCollectibles.size();
         for (Collectible collectible : new ArrayList<>(activeCollectibles.values())) {
-            despawnCollectible(collectible.id(), true);
+            // recordClear already covers the database rows
+            despawnCollectible(collectible.id(), chunkStore != null);
+        }
+        if (lazyLoading) {
+            collectibleCountByZone.clear();
         }
         return count;
     }
@@ -689,6 +1284,29 @@ public class SpawnManager {
         return collectibleCountByZone.getOrDefault(zoneId, 0);
     }
 
+    /**
+     * Get the display entity rendering a collectible.
+     *
+     * @return The display entity UUID, or null if the collectible is rendered with particles
+     */
+    public UUID getDisplayId(UUID collectibleId) {
+        return displayIds.get(collectibleId);
+    }
+
+    /**
+     * Check if a collectible is rendered with a display entity instead of particles.
+     */
+    public boolean hasDisplay(UUID collectibleId) {
+        return displayIds.containsKey(collectibleId);
+    }
+
+    /**
+     * Check if collectibles are virtual (no hitbox entity).
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     // Getters for NamespacedKeys (for use by listeners)
 
     public NamespacedKey getCollectibleKey() {
@@ -0,0 +1,98 @@
+package com.blockworlds.collections.manager;
+
+import com.blockworlds.collections.config.ConfigManager;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which worlds have players in them, so periodic tasks can skip worlds
+ * (or the whole server) while nobody is there to see the result.
+ *
+ * Updated from join, quit and world change events; reads are lock-free.
+ */
+public class WorldActivityTracker {
+
+    private final ConfigManager config;
+
+    // Player -> world they are in, guarded by this
+    private final Map<UUID, String> playerWorlds = new HashMap<>();
+    private final Map<String, Integer> playerCounts = new ConcurrentHashMap<>();
+    private volatile int onlineCount;
+
+    public WorldActivityTracker(ConfigManager config) {
+        this.config = config;
+
+        // Pick up players already online (plugin reload)
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            playerEntered(player.getUniqueId(), player.getWorld());
+        }
+    }
+
+    /**
+     * Record a player joining or arriving in a world.
+     */
+    public synchronized void playerEntered(UUID playerId, World world) {
+        String previous = playerWorlds.put(playerId, world.getName());
+        if (previous != null) {
+            decrement(previous);
+        }
+        playerCounts.merge(world.getName(), 1, Integer::sum);
+        onlineCount = playerWorlds.size();
+    }
+
+    /**
+     * Record a player leaving the server.
+     */
+    public synchronized void playerLeft(UUID playerId) {
+        String previous = playerWorlds.remove(playerId);
+        if (previous != null) {
+            decrement(previous);
+        }
+        onlineCount = playerWorlds.size();
+    }
+
+    private void decrement(String worldName) {
+        playerCounts.computeIfPresent(worldName, (name, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Check if work for a world should run. Always true when suspension is disabled.
+     */
+    public boolean isActive(String worldName) {
+        return !isEnabled() || (worldName != null && playerCounts.containsKey(worldName));
+    }
+
+    /**
+     * Check if work for a world should run. Always true when suspension is disabled.
+     */
+    public boolean isActive(World world) {
+        return world != null && isActive(world.getName());
+    }
+
+    /**
+     * Check if any world is active. False only when suspension is enabled and nobody is online.
+     */
+    public boolean isServerActive() {
+        return !isEnabled() || onlineCount > 0;
+    }
+
+    /**
+     * Get the number of worlds that currently have players.
+     */
+    public int getActiveWorldCount() {
+        return playerCounts.size();
+    }
+
+    /**
+     * Check if idle world suspension is turned on.
+     */
+    public boolean isEnabled() {
+        return config.isSuspendIdleWorlds();
+    }
+}
@@ -2,6 +2,8 @@ package com.blockworlds.collections.manager;
 
 import com.blockworlds.collections.model.SpawnConditions;
 import com.blockworlds.collections.model.SpawnZone;
+import com.blockworlds.collections.model.ZoneShape;
+import com.blockworlds.collections.util.IntervalTree;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -26,11 +28,17 @@ public class ZoneManager {
     private final Map<String, SpawnZone> zones;
     private final Map<String, List<SpawnZone>> zonesByWorld;
 
+    // Per-world lookup for getZonesAt: bounded zones by X range, unbounded zones always match
+    private final Map<String, IntervalTree<SpawnZone>> boundedByWorld;
+    private final Map<String, List<SpawnZone>> unboundedByWorld;
+
     public ZoneManager(Plugin plugin) {
         this.plugin = plugin;
         this.zonesFile = new File(plugin.getDataFolder(), "zones.yml");
         this.zones = new HashMap<>();
         this.zonesByWorld = new HashMap<>();
+        this.boundedByWorld = new HashMap<>();
+        this.unboundedByWorld = new HashMap<>();
     }
 
     /**
@@ -39,6 +47,8 @@ public class ZoneManager {
     public void loadZones() {
         zones.clear();
         zonesByWorld.clear();
+        boundedByWorld.clear();
+        unboundedByWorld.clear();
 
         if (!zonesFile.exists()) {
             plugin.saveResource("zones.yml", false);
@@ -63,9 +73,30 @@ public class ZoneManager {
             }
         }
 
+        buildZoneIndex();
+
         plugin.getLogger().info("Loaded " + zones.size() + " spawn zones");
     }
 
+    /**
+     * Build the per-world zone lookup from the loaded zones.
+     */
+    private void buildZoneIndex() {
+        for (Map.Entry<String, List<SpawnZone>> world : zonesByWorld.entrySet()) {
+            List<IntervalTree.Entry<SpawnZone>> bounded = new ArrayList<>();
+            List<SpawnZone> unbounded = new ArrayList<>();
+            for (SpawnZone zone : world.getValue()) {
+                if (zone.bounds() != null) {
+                    bounded.add(new IntervalTree.Entry<>(zone.bounds().minX(), zone.bounds().maxX(), zone));
+                } else {
+                    unbounded.add(zone);
+                }
+            }
+            boundedByWorld.put(world.getKey(), new IntervalTree<>(bounded));
+            unboundedByWorld.put(world.getKey(), unbounded);
+        }
+    }
+
     /**
      * Parse a SpawnZone from configuration.
      */
@@ -75,16 +106,30 @@ public class ZoneManager {
             boolean enabled = section.getBoolean("enabled", true);
             String worldName = section.getString("world", "world");
 
-            // Parse bounds (optional)
+            // Parse shape (optional): a polygon, or rectangular bounds with an optional Y range
             SpawnZone.Bounds bounds = null;
+            ZoneShape shape = null;
+            ConfigurationSection polygonSection = section.getConfigurationSection("polygon");
             ConfigurationSection boundsSection = section.getConfigurationSection("bounds");
-            if (boundsSection != null) {
+            if (polygonSection != null) {
+                shape = ZoneShape.polygon(
+                        parsePoints(polygonSection.getStringList("points")),
+                        polygonSection.getInt("min-y", Integer.MIN_VALUE),
+                        polygonSection.getInt("max-y", Integer.MAX_VALUE)
+                );
+            } else if (boundsSection != null) {
                 bounds = new SpawnZone.Bounds(
                         boundsSection.getInt("min-x", Integer.MIN_VALUE),
                         boundsSection.getInt("max-x", Integer.MAX_VALUE),
                         boundsSection.getInt("min-z", Integer.MIN_VALUE),
                         boundsSection.getInt("max-z", Integer.MAX_VALUE)
                 );
+                shape = ZoneShape.cuboid(
+                        bounds.minX(), bounds.maxX(),
+                        boundsSection.getInt("min-y", Integer.MIN_VALUE),
+                        boundsSection.getInt("max-y", Integer.MAX_VALUE),
+                        bounds.minZ(), bounds.maxZ()
+                );
             }
 
             // Parse conditions
@@ -99,7 +144,7 @@ public class ZoneManager {
             int respawnDelay = section.getInt("respawn-delay", 60);
 
             return new SpawnZone(id, name, enabled, worldName, bounds, conditions,
-                    collections, maxCollectibles, respawnDelay);
+                    collections, maxCollectibles, respawnDelay, shape);
 
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING, "Failed to parse zone: " + id, e);
@@ -107,6 +152,21 @@ public class ZoneManager {
         }
     }
 
+    /**
+     * Parse polygon points in "x,z" form.
+     */
+    private List<int[]> parsePoints(List<String> values) {
+        List<int[]> points = new ArrayList<>(values.size());
+        for (String value : values) {
+            String[] parts = value.split(",");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid polygon point (expected x,z): " + value);
+            }
+            points.add(new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())});
+        }
+        return points;
+    }
+
     /**
      * Parse spawn conditions from configuration.
      * This method is public so it can be used by CollectionManager as well.
@@ -201,7 +261,12 @@ public class ZoneManager {
         }
         String worldName = location.getWorld().getName();
 
-        for (SpawnZone zone : getZonesForWorld(worldName)) {
+        IntervalTree<SpawnZone> bounded = boundedByWorld.get(worldName);
+        if (bounded != null) {
+            bounded.query(location.getBlockX(), result);
+            result.removeIf(zone -> !zone.contains(location));
+        }
+        for (SpawnZone zone : unboundedByWorld.getOrDefault(worldName, List.of())) {
             if (zone.contains(location)) {
                 result.add(zone);
             }
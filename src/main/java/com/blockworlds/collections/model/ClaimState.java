@@ -0,0 +1,59 @@
+package com.blockworlds.collections.model;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Pickup state of a collectible: ACTIVE → CLAIMING → COLLECTED.
+ * Transitions are compare-and-set, so exactly one player can claim a collectible
+ * even when clicks arrive on different region threads.
+ * Shared by every copy of a {@link Collectible} record.
+ */
+public final class ClaimState {
+
+    private static final int ACTIVE = 0;
+    private static final int CLAIMING = 1;
+    private static final int COLLECTED = 2;
+
+    private static final AtomicIntegerFieldUpdater<ClaimState> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(ClaimState.class, "state");
+
+    private volatile int state = ACTIVE;
+
+    /**
+     * Try to start claiming. Only one caller can win until the claim is released.
+     *
+     * @return true if this caller now owns the claim
+     */
+    public boolean tryClaim() {
+        return STATE.compareAndSet(this, ACTIVE, CLAIMING);
+    }
+
+    /**
+     * Finish a successful claim. The collectible can never be claimed again.
+     */
+    public void complete() {
+        STATE.compareAndSet(this, CLAIMING, COLLECTED);
+    }
+
+    /**
+     * Give up a claim that could not be completed, making the collectible claimable again.
+     */
+    public void release() {
+        STATE.compareAndSet(this, CLAIMING, ACTIVE);
+    }
+
+    /**
+     * Retire the collectible (despawned), whatever its current state.
+     */
+    public void retire() {
+        state = COLLECTED;
+    }
+
+    public boolean isActive() {
+        return state == ACTIVE;
+    }
+
+    public boolean isCollected() {
+        return state == COLLECTED;
+    }
+}
@@ -16,6 +16,7 @@ import java.util.UUID;
  * @param tier           Visual tier of this collectible
  * @param spawnedAt      Timestamp when this collectible was spawned
  * @param spawned        Whether the entities are currently spawned in the world
+ * @param claim          Pickup state, shared by every copy of this collectible
  */
 public record Collectible(
         UUID id,
@@ -26,8 +27,17 @@ public record Collectible(
         Location location,
         CollectibleTier tier,
         long spawnedAt,
-        boolean spawned
+        boolean spawned,
+        ClaimState claim
 ) {
+    /**
+     * Create a collectible with a fresh (active) claim state.
+     */
+    public Collectible(UUID id, UUID hitboxId, String zoneId, String collectionId, String itemId,
+                       Location location, CollectibleTier tier, long spawnedAt, boolean spawned) {
+        this(id, hitboxId, zoneId, collectionId, itemId, location, tier, spawnedAt, spawned, new ClaimState());
+    }
+
     /**
      * Create a new Collectible with a generated ID.
      */
@@ -56,14 +66,14 @@ public record Collectible(
      * Create a copy with spawned state changed.
      */
     public Collectible withSpawned(boolean spawned) {
-        return new Collectible(id, hitboxId, zoneId, collectionId, itemId, location, tier, spawnedAt, spawned);
+        return new Collectible(id, hitboxId, zoneId, collectionId, itemId, location, tier, spawnedAt, spawned, claim);
     }
 
     /**
      * Create a copy with new hitbox UUID (for respawning after chunk load).
      */
     public Collectible withHitbox(UUID hitboxId) {
-        return new Collectible(id, hitboxId, zoneId, collectionId, itemId, location, tier, spawnedAt, true);
+        return new Collectible(id, hitboxId, zoneId, collectionId, itemId, location, tier, spawnedAt, true, claim);
     }
 
     /**
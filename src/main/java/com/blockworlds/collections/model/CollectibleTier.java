@@ -12,6 +12,11 @@ public enum CollectibleTier {
     RARE(Particle.END_ROD, "Rare", true, NamedTextColor.BLUE),
     EVENT(Particle.FIREWORK, "Event", true, NamedTextColor.LIGHT_PURPLE);
 
+    /**
+     * Bitmask with every tier's bit set.
+     */
+    public static final int ALL_BITS = (1 << values().length) - 1;
+
     private final Particle particle;
     private final String displayName;
     private final boolean requiresGoggles;
@@ -40,6 +45,13 @@ public enum CollectibleTier {
         return color;
     }
 
+    /**
+     * Get this tier's bit for use in visibility bitmasks.
+     */
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
     /**
      * Parse tier from string, case-insensitive.
      */
@@ -2,15 +2,53 @@ package com.blockworlds.collections.model;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
 /**
  * Represents a player's collection progress.
+ *
+ * Changes made through {@link #addItem}, {@link #markComplete}, {@link #claimReward} and
+ * {@link #resetCollection} are tracked until {@link #drainChanges()} hands them to a save,
+ * so a save writes only what changed. Loading (the setters and
+ * {@link CollectionProgress#addItemDirect}) is not tracked.
  */
 public class PlayerProgress {
 
+    /**
+     * Snapshot of what changed since the last drain.
+     *
+     * @param totalsChanged              Whether the player's totals need writing
+     * @param totalCollectiblesCollected Total collectibles at the time of the drain
+     * @param totalCollectionsCompleted  Total completed collections at the time of the drain
+     * @param firstCollectionDate        First collection date at the time of the drain
+     * @param lastActivityDate           Last activity date at the time of the drain
+     * @param newItems                   Items added since the last drain, by collection ID
+     * @param collections                Copies of collections whose status changed, by collection ID
+     */
+    public record Changes(boolean totalsChanged, int totalCollectiblesCollected, int totalCollectionsCompleted,
+                          long firstCollectionDate, long lastActivityDate,
+                          Map<String, Set<String>> newItems, Map<String, CollectionProgress> collections) {
+
+        public boolean isEmpty() {
+            return !totalsChanged && newItems.isEmpty() && collections.isEmpty();
+        }
+
+        /**
+         * Number of item rows in this snapshot.
+         */
+        public int itemCount() {
+            int count = 0;
+            for (Set<String> items : newItems.values()) {
+                count += items.size();
+            }
+            return count;
+        }
+    }
+
     private final UUID playerId;
     private final Map<String, CollectionProgress> collections;
     private int totalCollectiblesCollected;
@@ -18,6 +56,11 @@ public class PlayerProgress {
     private long firstCollectionDate;
     private long lastActivityDate;
 
+    // Dirty tracking since the last drain, guarded by this
+    private boolean totalsDirty;
+    private final Map<String, Set<String>> dirtyItems = new LinkedHashMap<>();
+    private final Set<String> dirtyCollections = new LinkedHashSet<>();
+
     public PlayerProgress(UUID playerId) {
         this.playerId = playerId;
         this.collections = new HashMap<>();
@@ -96,7 +139,7 @@ public class PlayerProgress {
      *
      * @return true if the item was newly added, false if already had it
      */
-    public boolean addItem(String collectionId, String itemId) {
+    public synchronized boolean addItem(String collectionId, String itemId) {
         CollectionProgress progress = getProgress(collectionId);
         boolean added = progress.addItem(itemId);
 
@@ -106,6 +149,8 @@ public class PlayerProgress {
             if (firstCollectionDate == 0) {
                 firstCollectionDate = lastActivityDate;
             }
+            totalsDirty = true;
+            dirtyItems.computeIfAbsent(collectionId, id -> new LinkedHashSet<>()).add(itemId);
         }
 
         return added;
@@ -114,12 +159,14 @@ public class PlayerProgress {
     /**
      * Mark a collection as complete.
      */
-    public void markComplete(String collectionId) {
+    public synchronized void markComplete(String collectionId) {
         CollectionProgress progress = getProgress(collectionId);
         if (!progress.isComplete()) {
             progress.setComplete(true);
             progress.setCompletedDate(System.currentTimeMillis());
             totalCollectionsCompleted++;
+            totalsDirty = true;
+            dirtyCollections.add(collectionId);
         }
     }
 
@@ -142,9 +189,12 @@ public class PlayerProgress {
     /**
      * Mark rewards as claimed for a collection.
      */
-    public void claimReward(String collectionId) {
+    public synchronized void claimReward(String collectionId) {
         CollectionProgress progress = getProgress(collectionId);
-        progress.setRewardClaimed(true);
+        if (!progress.isRewardClaimed()) {
+            progress.setRewardClaimed(true);
+            dirtyCollections.add(collectionId);
+        }
     }
 
     /**
@@ -158,10 +208,92 @@ public class PlayerProgress {
     /**
      * Reset progress for a specific collection.
      */
-    public void resetCollection(String collectionId) {
+    public synchronized void resetCollection(String collectionId) {
         CollectionProgress removed = collections.remove(collectionId);
         if (removed != null && removed.isComplete()) {
             totalCollectionsCompleted = Math.max(0, totalCollectionsCompleted - 1);
+            totalsDirty = true;
+        }
+
+        // The storage reset removes the rows; nothing left to write for this collection
+        dirtyItems.remove(collectionId);
+        dirtyCollections.remove(collectionId);
+    }
+
+    // Dirty tracking
+
+    /**
+     * Check if anything changed since the last drain.
+     */
+    public synchronized boolean hasChanges() {
+        return totalsDirty || !dirtyItems.isEmpty() || !dirtyCollections.isEmpty();
+    }
+
+    /**
+     * Stop tracking an added item that another writer (the write-behind journal) has taken over.
+     * The totals it changed stay tracked.
+     */
+    public synchronized void untrackItem(String collectionId, String itemId) {
+        Set<String> items = dirtyItems.get(collectionId);
+        if (items != null && items.remove(itemId) && items.isEmpty()) {
+            dirtyItems.remove(collectionId);
+        }
+    }
+
+    /**
+     * Stop tracking a collection's status change that another writer has taken over.
+     */
+    public synchronized void untrackStatus(String collectionId) {
+        dirtyCollections.remove(collectionId);
+    }
+
+    /**
+     * Take a snapshot of everything changed since the last drain and clear the tracking.
+     * If the snapshot can't be written, hand it back with {@link #restoreChanges}.
+     */
+    public synchronized Changes drainChanges() {
+        Map<String, Set<String>> items = new LinkedHashMap<>();
+        for (Map.Entry<String, Set<String>> entry : dirtyItems.entrySet()) {
+            items.put(entry.getKey(), Set.copyOf(entry.getValue()));
+        }
+
+        Map<String, CollectionProgress> changed = new LinkedHashMap<>();
+        for (String collectionId : dirtyCollections) {
+            CollectionProgress progress = collections.get(collectionId);
+            if (progress != null) {
+                changed.put(collectionId, progress.copyStatus());
+            }
+        }
+
+        Changes changes = new Changes(totalsDirty, totalCollectiblesCollected, totalCollectionsCompleted,
+                firstCollectionDate, lastActivityDate, Map.copyOf(items), Map.copyOf(changed));
+        totalsDirty = false;
+        dirtyItems.clear();
+        dirtyCollections.clear();
+        return changes;
+    }
+
+    /**
+     * Put back a drained snapshot whose save failed, so the next save retries it.
+     * Current values win: restored collections are re-read at the next drain, and
+     * items from collections reset in the meantime are dropped.
+     */
+    public synchronized void restoreChanges(Changes changes) {
+        totalsDirty |= changes.totalsChanged();
+
+        for (Map.Entry<String, Set<String>> entry : changes.newItems().entrySet()) {
+            String collectionId = entry.getKey();
+            for (String itemId : entry.getValue()) {
+                if (hasItem(collectionId, itemId)) {
+                    dirtyItems.computeIfAbsent(collectionId, id -> new LinkedHashSet<>()).add(itemId);
+                }
+            }
+        }
+
+        for (String collectionId : changes.collections().keySet()) {
+            if (collections.containsKey(collectionId)) {
+                dirtyCollections.add(collectionId);
+            }
         }
     }
 
@@ -265,5 +397,16 @@ public class PlayerProgress {
         public void setCompletedDate(long completedDate) {
             this.completedDate = completedDate;
         }
+
+        /**
+         * Copy the status fields (not the items) for a save snapshot.
+         */
+        CollectionProgress copyStatus() {
+            CollectionProgress copy = new CollectionProgress(collectionId);
+            copy.complete = complete;
+            copy.rewardClaimed = rewardClaimed;
+            copy.completedDate = completedDate;
+            return copy;
+        }
     }
 }
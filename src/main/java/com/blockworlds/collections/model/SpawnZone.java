@@ -11,11 +11,12 @@ import java.util.List;
  * @param name            Display name
  * @param enabled         Whether spawning is enabled in this zone
  * @param worldName       Name of the world this zone is in (null for any world)
- * @param bounds          Coordinate bounds (null for unbounded)
+ * @param bounds          XZ bounding box (null for unbounded)
  * @param conditions      Spawn conditions that must be met
  * @param collections     IDs of collections that can spawn here (empty = all)
  * @param maxCollectibles Maximum active collectibles in this zone
  * @param respawnDelay    Seconds before a new collectible spawns after collection
+ * @param shape           Exact area covered (null for unbounded; defaults to the bounds)
  */
 public record SpawnZone(
         String id,
@@ -26,7 +27,8 @@ public record SpawnZone(
         SpawnConditions conditions,
         List<String> collections,
         int maxCollectibles,
-        int respawnDelay
+        int respawnDelay,
+        ZoneShape shape
 ) {
     /**
      * Create a SpawnZone with validation.
@@ -50,6 +52,19 @@ public record SpawnZone(
         if (conditions == null) {
             conditions = SpawnConditions.NONE;
         }
+        if (shape == null && bounds != null) {
+            shape = ZoneShape.cuboid(bounds);
+        } else if (shape != null && bounds == null) {
+            bounds = shape.getBounds();
+        }
+    }
+
+    /**
+     * Create a SpawnZone whose shape is its rectangular bounds.
+     */
+    public SpawnZone(String id, String name, boolean enabled, String worldName, Bounds bounds,
+                     SpawnConditions conditions, List<String> collections, int maxCollectibles, int respawnDelay) {
+        this(id, name, enabled, worldName, bounds, conditions, collections, maxCollectibles, respawnDelay, null);
     }
 
     /**
@@ -64,9 +79,9 @@ public record SpawnZone(
             return false;
         }
 
-        // Check bounds
-        if (bounds != null) {
-            return bounds.contains(location.getBlockX(), location.getBlockZ());
+        // Check shape
+        if (shape != null) {
+            return shape.contains(location.getBlockX(), location.getBlockY(), location.getBlockZ());
         }
 
         return true;
@@ -0,0 +1,195 @@
+package com.blockworlds.collections.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The area covered by a spawn zone: an axis-aligned cuboid or a vertical prism
+ * over an XZ polygon, each with an optional Y range.
+ *
+ * Polygon vertices are block corner coordinates; a block column is inside when its
+ * centre is. Column coverage is cached per chunk as a 256-bit mask the first time a
+ * chunk is queried, so containment is a mask lookup instead of a polygon test.
+ */
+public abstract class ZoneShape {
+
+    protected final int minX;
+    protected final int maxX;
+    protected final int minY;
+    protected final int maxY;
+    protected final int minZ;
+    protected final int maxZ;
+
+    private ZoneShape(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+    }
+
+    /**
+     * Create a cuboid shape. All bounds are inclusive block coordinates.
+     */
+    public static ZoneShape cuboid(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        return new Cuboid(Math.min(minX, maxX), Math.max(minX, maxX),
+                Math.min(minY, maxY), Math.max(minY, maxY),
+                Math.min(minZ, maxZ), Math.max(minZ, maxZ));
+    }
+
+    /**
+     * Create a cuboid shape covering every Y level of the given XZ bounds.
+     */
+    public static ZoneShape cuboid(SpawnZone.Bounds bounds) {
+        return cuboid(bounds.minX(), bounds.maxX(), Integer.MIN_VALUE, Integer.MAX_VALUE,
+                bounds.minZ(), bounds.maxZ());
+    }
+
+    /**
+     * Create a polygon shape.
+     *
+     * @param points Polygon vertices as {x, z} pairs, at least three
+     * @param minY   Lowest included Y level
+     * @param maxY   Highest included Y level
+     */
+    public static ZoneShape polygon(List<int[]> points, int minY, int maxY) {
+        if (points.size() < 3) {
+            throw new IllegalArgumentException("Polygon needs at least 3 points, got " + points.size());
+        }
+        return new Polygon(points, Math.min(minY, maxY), Math.max(minY, maxY));
+    }
+
+    /**
+     * Check if a block is inside this shape.
+     */
+    public boolean contains(int x, int y, int z) {
+        if (y < minY || y > maxY) {
+            return false;
+        }
+        return containsColumn(x, z);
+    }
+
+    /**
+     * Check if a block column is inside this shape, ignoring Y.
+     */
+    public abstract boolean containsColumn(int x, int z);
+
+    /**
+     * Get the XZ bounding box of this shape.
+     */
+    public SpawnZone.Bounds getBounds() {
+        return new SpawnZone.Bounds(minX, maxX, minZ, maxZ);
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Narrow a Y search range to the levels this shape includes.
+     *
+     * @return {min, max}; min is above max if the ranges don't overlap
+     */
+    public int[] clampY(int min, int max) {
+        return new int[]{Math.max(min, minY), Math.min(max, maxY)};
+    }
+
+    /**
+     * Check if the XZ bounding box contains a column.
+     */
+    protected boolean inBounds(int x, int z) {
+        return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Axis-aligned box. The bounds test is already constant time, so no mask is kept.
+     */
+    private static final class Cuboid extends ZoneShape {
+
+        private Cuboid(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+            super(minX, maxX, minY, maxY, minZ, maxZ);
+        }
+
+        @Override
+        public boolean containsColumn(int x, int z) {
+            return inBounds(x, z);
+        }
+    }
+
+    /**
+     * Vertical prism over an XZ polygon (even-odd rule).
+     */
+    private static final class Polygon extends ZoneShape {
+
+        // Shared masks for chunks entirely inside or outside the polygon
+        private static final long[] FULL = {-1L, -1L, -1L, -1L};
+        private static final long[] EMPTY = {0L, 0L, 0L, 0L};
+
+        private final double[] xs;
+        private final double[] zs;
+        private final Map<Long, long[]> chunkMasks = new ConcurrentHashMap<>();
+
+        private Polygon(List<int[]> points, int minY, int maxY) {
+            super(points.stream().mapToInt(p -> p[0]).min().orElseThrow(),
+                    points.stream().mapToInt(p -> p[0]).max().orElseThrow() - 1,
+                    minY, maxY,
+                    points.stream().mapToInt(p -> p[1]).min().orElseThrow(),
+                    points.stream().mapToInt(p -> p[1]).max().orElseThrow() - 1);
+            this.xs = new double[points.size()];
+            this.zs = new double[points.size()];
+            for (int i = 0; i < points.size(); i++) {
+                xs[i] = points.get(i)[0];
+                zs[i] = points.get(i)[1];
+            }
+        }
+
+        @Override
+        public boolean containsColumn(int x, int z) {
+            if (!inBounds(x, z)) {
+                return false;
+            }
+            long[] mask = chunkMasks.computeIfAbsent(
+                    ((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL),
+                    key -> computeMask(x >> 4, z >> 4));
+            int bit = ((z & 15) << 4) | (x & 15);
+            return (mask[bit >> 6] & (1L << (bit & 63))) != 0;
+        }
+
+        private long[] computeMask(int chunkX, int chunkZ) {
+            long[] mask = new long[4];
+            boolean full = true;
+            boolean empty = true;
+            for (int dz = 0; dz < 16; dz++) {
+                for (int dx = 0; dx < 16; dx++) {
+                    int x = (chunkX << 4) + dx;
+                    int z = (chunkZ << 4) + dz;
+                    if (inBounds(x, z) && testPoint(x + 0.5, z + 0.5)) {
+                        int bit = (dz << 4) | dx;
+                        mask[bit >> 6] |= 1L << (bit & 63);
+                        empty = false;
+                    } else {
+                        full = false;
+                    }
+                }
+            }
+            return full ? FULL : empty ? EMPTY : mask;
+        }
+
+        private boolean testPoint(double px, double pz) {
+            boolean inside = false;
+            for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+                if ((zs[i] > pz) != (zs[j] > pz)
+                        && px < (xs[j] - xs[i]) * (pz - zs[i]) / (zs[j] - zs[i]) + xs[i]) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+}
@@ -94,7 +94,7 @@ public class AdaptiveSpawnFinder {
                 Location loc = gridPoints.get(i);
 
                 // Find standable surface at this X,Z
-                Location surfaceLoc = findSurfaceLocation(world, loc.getBlockX(), loc.getBlockZ(), conditions);
+                Location surfaceLoc = findSurfaceLocation(world, loc.getBlockX(), loc.getBlockZ(), conditions, zone);
                 if (surfaceLoc == null) {
                     stats.recordFailure("no-surface");
                     continue;
@@ -202,12 +202,19 @@ public class AdaptiveSpawnFinder {
     }
 
     /**
-     * Find the surface location at X,Z coordinates.
+     * Find the surface location at X,Z coordinates, within the zone's Y range.
      */
-    private Location findSurfaceLocation(World world, int x, int z, SpawnConditions conditions) {
+    private Location findSurfaceLocation(World world, int x, int z, SpawnConditions conditions, SpawnZone zone) {
         int minY = Math.max(conditions.minY(), world.getMinHeight());
         int maxY = Math.min(conditions.maxY(), world.getMaxHeight() - 1);
 
+        // A surface above or below the zone's Y range could never pass the bounds check
+        if (zone.shape() != null) {
+            int[] range = zone.shape().clampY(minY, maxY);
+            minY = range[0];
+            maxY = range[1];
+        }
+
         if (conditions.underground()) {
             // Search from bottom up for underground locations
             for (int y = minY; y <= maxY; y++) {
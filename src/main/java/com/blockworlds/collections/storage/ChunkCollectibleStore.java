@@ -0,0 +1,192 @@
+package com.blockworlds.collections.storage;
+
+import com.blockworlds.collections.Collections;
+import com.blockworlds.collections.model.Collectible;
+import com.blockworlds.collections.model.CollectibleTier;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Stores collectibles in the PersistentDataContainer of the chunk they are in,
+ * so they load and save with the chunk instead of going through the database.
+ *
+ * Chunk methods must be called from the thread that owns the chunk.
+ * Clears that cover unloaded chunks are recorded as epochs in the world's PDC;
+ * collectibles spawned before the relevant epoch are dropped when their chunk next loads.
+ */
+public class ChunkCollectibleStore {
+
+    private static final String ALL_ZONES = "*";
+
+    private final Collections plugin;
+
+    private final NamespacedKey collectiblesKey;
+    private final NamespacedKey clearEpochsKey;
+    private final NamespacedKey idKey;
+    private final NamespacedKey zoneKey;
+    private final NamespacedKey collectionKey;
+    private final NamespacedKey itemKey;
+    private final NamespacedKey xKey;
+    private final NamespacedKey yKey;
+    private final NamespacedKey zKey;
+    private final NamespacedKey tierKey;
+    private final NamespacedKey spawnedAtKey;
+    private final NamespacedKey epochKey;
+
+    public ChunkCollectibleStore(Collections plugin) {
+        this.plugin = plugin;
+        this.collectiblesKey = new NamespacedKey(plugin, "collectibles");
+        this.clearEpochsKey = new NamespacedKey(plugin, "clear_epochs");
+        this.idKey = new NamespacedKey(plugin, "id");
+        this.zoneKey = new NamespacedKey(plugin, "zone");
+        this.collectionKey = new NamespacedKey(plugin, "collection");
+        this.itemKey = new NamespacedKey(plugin, "item");
+        this.xKey = new NamespacedKey(plugin, "x");
+        this.yKey = new NamespacedKey(plugin, "y");
+        this.zKey = new NamespacedKey(plugin, "z");
+        this.tierKey = new NamespacedKey(plugin, "tier");
+        this.spawnedAtKey = new NamespacedKey(plugin, "spawned_at");
+        this.epochKey = new NamespacedKey(plugin, "epoch");
+    }
+
+    /**
+     * Read the collectibles stored in a chunk.
+     *
+     * @param chunk The loaded chunk
+     * @return The stored collectibles (not spawned)
+     */
+    public List<Collectible> load(Chunk chunk) {
+        List<PersistentDataContainer> entries = chunk.getPersistentDataContainer()
+                .get(collectiblesKey, PersistentDataType.LIST.dataContainers());
+
+        List<Collectible> collectibles = new ArrayList<>();
+        if (entries == null) return collectibles;
+
+        World world = chunk.getWorld();
+        for (PersistentDataContainer entry : entries) {
+            try {
+                collectibles.add(fromContainer(world, entry));
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.WARNING, "Skipping corrupt collectible in chunk " +
+                        chunk.getX() + "," + chunk.getZ(), e);
+            }
+        }
+        return collectibles;
+    }
+
+    /**
+     * Replace the collectibles stored in a chunk.
+     *
+     * @param chunk        The loaded chunk
+     * @param collectibles Every collectible that should remain in the chunk
+     */
+    public void write(Chunk chunk, java.util.Collection<Collectible> collectibles) {
+        PersistentDataContainer pdc = chunk.getPersistentDataContainer();
+        if (collectibles.isEmpty()) {
+            pdc.remove(collectiblesKey);
+            return;
+        }
+
+        PersistentDataAdapterContext context = pdc.getAdapterContext();
+        List<PersistentDataContainer> entries = new ArrayList<>(collectibles.size());
+        for (Collectible collectible : collectibles) {
+            entries.add(toContainer(context, collectible));
+        }
+        pdc.set(collectiblesKey, PersistentDataType.LIST.dataContainers(), entries);
+    }
+
+    /**
+     * Get the time of the most recent clear covering a zone in a world.
+     *
+     * @return epoch millis, or 0 if never cleared
+     */
+    public long getClearEpoch(World world, String zoneId) {
+        List<PersistentDataContainer> epochs = world.getPersistentDataContainer()
+                .get(clearEpochsKey, PersistentDataType.LIST.dataContainers());
+        if (epochs == null) return 0;
+
+        long epoch = 0;
+        for (PersistentDataContainer entry : epochs) {
+            String zone = entry.get(zoneKey, PersistentDataType.STRING);
+            if (ALL_ZONES.equals(zone) || zoneId.equals(zone)) {
+                epoch = Math.max(epoch, entry.getOrDefault(epochKey, PersistentDataType.LONG, 0L));
+            }
+        }
+        return epoch;
+    }
+
+    /**
+     * Record that a zone (or every zone, if null) was cleared in a world.
+     */
+    public void recordClear(World world, String zoneId, long epoch) {
+        PersistentDataContainer pdc = world.getPersistentDataContainer();
+        List<PersistentDataContainer> existing = pdc.get(clearEpochsKey, PersistentDataType.LIST.dataContainers());
+        String zone = zoneId != null ? zoneId : ALL_ZONES;
+
+        List<PersistentDataContainer> epochs = new ArrayList<>();
+        if (existing != null) {
+            for (PersistentDataContainer entry : existing) {
+                // A full clear supersedes every zone entry
+                String entryZone = entry.get(zoneKey, PersistentDataType.STRING);
+                if (!zone.equals(entryZone) && !ALL_ZONES.equals(zone)) {
+                    epochs.add(entry);
+                }
+            }
+        }
+
+        PersistentDataContainer entry = pdc.getAdapterContext().newPersistentDataContainer();
+        entry.set(zoneKey, PersistentDataType.STRING, zone);
+        entry.set(epochKey, PersistentDataType.LONG, epoch);
+        epochs.add(entry);
+
+        pdc.set(clearEpochsKey, PersistentDataType.LIST.dataContainers(), epochs);
+    }
+
+    private PersistentDataContainer toContainer(PersistentDataAdapterContext context, Collectible collectible) {
+        PersistentDataContainer entry = context.newPersistentDataContainer();
+        Location location = collectible.location();
+        entry.set(idKey, PersistentDataType.STRING, collectible.id().toString());
+        entry.set(zoneKey, PersistentDataType.STRING, collectible.zoneId());
+        entry.set(collectionKey, PersistentDataType.STRING, collectible.collectionId());
+        if (collectible.itemId() != null) {
+            entry.set(itemKey, PersistentDataType.STRING, collectible.itemId());
+        }
+        entry.set(xKey, PersistentDataType.DOUBLE, location.getX());
+        entry.set(yKey, PersistentDataType.DOUBLE, location.getY());
+        entry.set(zKey, PersistentDataType.DOUBLE, location.getZ());
+        entry.set(tierKey, PersistentDataType.STRING, collectible.tier().name());
+        entry.set(spawnedAtKey, PersistentDataType.LONG, collectible.spawnedAt());
+        return entry;
+    }
+
+    private Collectible fromContainer(World world, PersistentDataContainer entry) {
+        Location location = new Location(
+                world,
+                entry.get(xKey, PersistentDataType.DOUBLE),
+                entry.get(yKey, PersistentDataType.DOUBLE),
+                entry.get(zKey, PersistentDataType.DOUBLE)
+        );
+
+        return new Collectible(
+                UUID.fromString(entry.get(idKey, PersistentDataType.STRING)),
+                null,
+                entry.get(zoneKey, PersistentDataType.STRING),
+                entry.get(collectionKey, PersistentDataType.STRING),
+                entry.get(itemKey, PersistentDataType.STRING),
+                location,
+                CollectibleTier.fromString(entry.get(tierKey, PersistentDataType.STRING)),
+                entry.getOrDefault(spawnedAtKey, PersistentDataType.LONG, System.currentTimeMillis()),
+                false // Will be set to true when entities are spawned
+        );
+    }
+}
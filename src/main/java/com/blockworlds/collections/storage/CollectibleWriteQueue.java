@@ -0,0 +1,190 @@
+package com.blockworlds.collections.storage;
+
+import com.blockworlds.collections.model.Collectible;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Write-behind queue for active collectible saves, removals and clears.
+ *
+ * Writes are coalesced per collectible (see {@link CollectibleWrites}) and flushed in a
+ * single transaction on a fixed interval, or early once enough are queued. A collectible
+ * spawned and collected between flushes never reaches the database. Flushes run one at
+ * a time in order, and a failed flush puts its writes back for the next attempt.
+ */
+public class CollectibleWriteQueue {
+
+    private final Plugin plugin;
+    private final Storage storage;
+    private final AtomicBoolean thresholdFlushQueued = new AtomicBoolean();
+
+    // Guarded by this
+    private CollectibleWrites pending = new CollectibleWrites();
+    private CompletableFuture<Void> flushChain = CompletableFuture.completedFuture(null);
+
+    private ScheduledTask task;
+    private int flushThreshold;
+    private volatile boolean running;
+
+    // Metrics
+    private volatile int queueDepth;
+    private volatile long lastFlushMillis;
+    private volatile int lastFlushRows;
+    private volatile long flushCount;
+
+    public CollectibleWriteQueue(Plugin plugin, Storage storage) {
+        this.plugin = plugin;
+        this.storage = storage;
+    }
+
+    /**
+     * Start periodic flushing. Until started, every write is flushed immediately.
+     *
+     * @param intervalMs     Time between flushes
+     * @param flushThreshold Queued writes that trigger an early flush
+     */
+    public void start(long intervalMs, int flushThreshold) {
+        stop();
+        this.flushThreshold = Math.max(1, flushThreshold);
+        if (intervalMs <= 0) {
+            return; // Write-through
+        }
+
+        running = true;
+        task = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, scheduledTask -> flush(),
+                intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop periodic flushing. Queued writes stay queued until the next flush.
+     */
+    public void stop() {
+        running = false;
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Queue a newly spawned collectible.
+     */
+    public void recordSave(Collectible collectible) {
+        synchronized (this) {
+            pending.save(collectible);
+            queueDepth = pending.size();
+        }
+        afterRecord();
+    }
+
+    /**
+     * Queue a collectible's removal.
+     */
+    public void recordRemove(UUID collectibleId, String zoneId) {
+        synchronized (this) {
+            pending.remove(collectibleId, zoneId);
+            queueDepth = pending.size();
+        }
+        afterRecord();
+    }
+
+    /**
+     * Queue a clear of one zone's collectibles, or all of them if the zone is null.
+     */
+    public void recordClear(String zoneId) {
+        synchronized (this) {
+            pending.clear(zoneId);
+            queueDepth = pending.size();
+        }
+        afterRecord();
+    }
+
+    private void afterRecord() {
+        if (!running) {
+            flush();
+        } else if (queueDepth >= flushThreshold && thresholdFlushQueued.compareAndSet(false, true)) {
+            flush().whenComplete((ignored, throwable) -> thresholdFlushQueued.set(false));
+        }
+    }
+
+    /**
+     * Flush every queued write, after any in-flight flush. The batch is taken when the
+     * flush starts, so writes queued while waiting are included.
+     *
+     * @return CompletableFuture that completes once the flush has been attempted
+     */
+    public synchronized CompletableFuture<Void> flush() {
+        flushChain = flushChain.thenCompose(ignored -> runFlush(drain()));
+        return flushChain;
+    }
+
+    private synchronized CollectibleWrites drain() {
+        CollectibleWrites batch = pending;
+        pending = new CollectibleWrites();
+        queueDepth = 0;
+        return batch;
+    }
+
+    private CompletableFuture<Void> runFlush(CollectibleWrites batch) {
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long start = System.nanoTime();
+        int rows = batch.size();
+        return storage.saveCollectibleBatch(batch)
+                .orTimeout(30, TimeUnit.SECONDS)
+                .handle((ignored, throwable) -> {
+                    lastFlushMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    lastFlushRows = rows;
+                    flushCount++;
+
+                    if (throwable != null) {
+                        plugin.getLogger().log(Level.WARNING,
+                                "Failed to flush " + rows + " queued collectible writes, will retry", throwable);
+                        requeue(batch);
+                    }
+                    return null;
+                });
+    }
+
+    private synchronized void requeue(CollectibleWrites failed) {
+        pending.absorbOlder(failed);
+        queueDepth = pending.size();
+    }
+
+    /**
+     * Number of queued writes waiting to be flushed.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Duration of the most recent flush, in milliseconds.
+     */
+    public long getLastFlushMillis() {
+        return lastFlushMillis;
+    }
+
+    /**
+     * Statements run by the most recent flush.
+     */
+    public int getLastFlushRows() {
+        return lastFlushRows;
+    }
+
+    /**
+     * Number of flushes attempted since startup.
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+}
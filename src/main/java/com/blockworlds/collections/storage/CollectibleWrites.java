@@ -0,0 +1,150 @@
+package com.blockworlds.collections.storage;
+
+import com.blockworlds.collections.model.Collectible;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Coalesced active collectible writes, waiting to be flushed in a batch.
+ *
+ * Each collectible keeps only its latest write: a save, or a removal. Removing a
+ * collectible whose save is still queued drops both, since the row never reached the
+ * database. Clears remove every queued write they cover and are applied before the
+ * remaining saves and removals, which were all queued after them.
+ *
+ * Not thread-safe: owned by whoever holds it (the queue while queued, the storage while flushing).
+ */
+public class CollectibleWrites {
+
+    private boolean clearAll;
+    private final Set<String> clearedZones = new LinkedHashSet<>();
+    private final Map<UUID, Collectible> saves = new LinkedHashMap<>();
+    // Removed collectible ID -> its zone, so a later zone clear can absorb it
+    private final Map<UUID, String> removals = new LinkedHashMap<>();
+
+    /**
+     * Queue a new collectible, replacing any queued write for it.
+     */
+    public void save(Collectible collectible) {
+        removals.remove(collectible.id());
+        saves.put(collectible.id(), collectible);
+    }
+
+    /**
+     * Queue a collectible's removal. If its save is still queued, both are dropped.
+     */
+    public void remove(UUID collectibleId, String zoneId) {
+        if (saves.remove(collectibleId) != null) {
+            return; // Never written
+        }
+        if (!isCleared(zoneId)) {
+            removals.put(collectibleId, zoneId);
+        }
+    }
+
+    /**
+     * Queue a clear of one zone, or every zone if null, dropping the writes it covers.
+     */
+    public void clear(String zoneId) {
+        if (zoneId == null) {
+            clearAll = true;
+            clearedZones.clear();
+            saves.clear();
+            removals.clear();
+            return;
+        }
+
+        saves.values().removeIf(collectible -> collectible.zoneId().equals(zoneId));
+        removals.values().removeIf(zoneId::equals);
+        if (!clearAll) {
+            clearedZones.add(zoneId);
+        }
+    }
+
+    /**
+     * Fold in writes that were queued before these (after a failed flush).
+     * Older clears still run first; older writes that a newer write or clear decides are dropped.
+     */
+    public void absorbOlder(CollectibleWrites older) {
+        if (clearAll) {
+            return; // Everything older is gone anyway
+        }
+
+        // Decide coverage against the newer clears before the older ones are merged in
+        Map<UUID, Collectible> olderSaves = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Collectible> entry : older.saves.entrySet()) {
+            if (!isDecided(entry.getKey(), entry.getValue().zoneId())) {
+                olderSaves.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Map<UUID, String> olderRemovals = new LinkedHashMap<>();
+        for (Map.Entry<UUID, String> entry : older.removals.entrySet()) {
+            if (!isDecided(entry.getKey(), entry.getValue())) {
+                olderRemovals.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (older.clearAll) {
+            clearAll = true;
+            clearedZones.clear();
+        } else {
+            clearedZones.addAll(older.clearedZones);
+        }
+        saves.putAll(olderSaves);
+        removals.putAll(olderRemovals);
+    }
+
+    /**
+     * Check if a queued write or clear already decides a collectible's row.
+     */
+    private boolean isDecided(UUID collectibleId, String zoneId) {
+        return saves.containsKey(collectibleId) || removals.containsKey(collectibleId) || isCleared(zoneId);
+    }
+
+    private boolean isCleared(String zoneId) {
+        return clearAll || clearedZones.contains(zoneId);
+    }
+
+    /**
+     * Check if every collectible should be deleted before the other writes.
+     */
+    public boolean isClearAll() {
+        return clearAll;
+    }
+
+    /**
+     * Get zones whose collectibles should be deleted before the other writes.
+     */
+    public Set<String> getClearedZones() {
+        return clearedZones;
+    }
+
+    /**
+     * Get queued saves, by collectible ID.
+     */
+    public Map<UUID, Collectible> getSaves() {
+        return saves;
+    }
+
+    /**
+     * Get queued removals.
+     */
+    public Set<UUID> getRemovals() {
+        return removals.keySet();
+    }
+
+    /**
+     * Number of statements this batch will run.
+     */
+    public int size() {
+        return (clearAll ? 1 : clearedZones.size()) + saves.size() + removals.size();
+    }
+
+    public boolean isEmpty() {
+        return !clearAll && clearedZones.isEmpty() && saves.isEmpty() && removals.isEmpty();
+    }
+}
@@ -0,0 +1,254 @@
+package com.blockworlds.collections.storage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache of the collection_ids and item_ids dictionary tables, which map collection IDs
+ * to small integers and each item to its bit in the collection's progress bitset.
+ *
+ * The cache only ever holds committed entries. Entries created inside a write transaction
+ * are staged in that transaction's {@link Additions} and published once it commits, so no
+ * other thread can use a number that might still roll back.
+ *
+ * Creation never waits on another creator: it inserts the next free number and, if that
+ * hits a unique key (another transaction created the same name or took the number),
+ * re-reads the committed winner or moves on to the next number.
+ */
+public class IdDictionary {
+
+    private static final int MAX_CREATE_ATTEMPTS = 64;
+
+    /**
+     * Entries created by one transaction, not yet committed.
+     */
+    public static final class Additions {
+        private final Map<String, Integer> collections = new HashMap<>();
+        private final Map<Integer, Map<String, Integer>> items = new HashMap<>();
+
+        public void clear() {
+            collections.clear();
+            items.clear();
+        }
+    }
+
+    private final Map<String, Integer> collectionIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> collectionNames = new ConcurrentHashMap<>();
+    // Collection number -> item ID -> bit, and back
+    private final Map<Integer, Map<String, Integer>> itemBits = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<Integer, String>> itemNames = new ConcurrentHashMap<>();
+
+    // Turns a SELECT into one that sees the latest committed rows (see JdbcStorage#lockingRead)
+    private final UnaryOperator<String> latestRead;
+
+    public IdDictionary(UnaryOperator<String> latestRead) {
+        this.latestRead = latestRead;
+    }
+
+    /**
+     * Load both tables into the cache.
+     */
+    public void load(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery("SELECT id, name FROM collection_ids")) {
+                while (rs.next()) {
+                    cacheCollection(rs.getInt("id"), rs.getString("name"));
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery("SELECT collection_id, bit_index, name FROM item_ids")) {
+                while (rs.next()) {
+                    cacheItem(rs.getInt("collection_id"), rs.getInt("bit_index"), rs.getString("name"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Publish a committed transaction's new entries to the cache.
+     */
+    public void publish(Additions additions) {
+        additions.collections.forEach((name, id) -> cacheCollection(id, name));
+        additions.items.forEach((collection, bits) -> bits.forEach((name, bit) -> cacheItem(collection, bit, name)));
+        additions.clear();
+    }
+
+    /**
+     * Get a collection's number.
+     *
+     * @param additions Where to stage a new number if the collection has none,
+     *                  or null to only look it up
+     * @return The number, or null if it has none and additions is null
+     */
+    public Integer collectionId(Connection conn, String name, Additions additions) throws SQLException {
+        Integer id = collectionIds.get(name);
+        if (id == null && additions != null) {
+            id = additions.collections.get(name);
+        }
+        if (id != null) return id;
+
+        String select = "SELECT id FROM collection_ids WHERE name = ?";
+        id = selectInt(conn, select, null, name);
+        if (id != null) {
+            cacheCollection(id, name);
+            return id;
+        }
+        if (additions == null) return null;
+
+        int candidate = nextNumber(conn, "SELECT MAX(id) FROM collection_ids", null, 1);
+        for (int attempt = 0; attempt < MAX_CREATE_ATTEMPTS; attempt++, candidate++) {
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO collection_ids (id, name) VALUES (?, ?)")) {
+                stmt.setInt(1, candidate);
+                stmt.setString(2, name);
+                stmt.executeUpdate();
+                additions.collections.put(name, candidate);
+                return candidate;
+            } catch (SQLException e) {
+                if (!isDuplicateKey(e)) throw e;
+            }
+            // Another transaction created this name, or took the number
+            id = selectInt(conn, latestRead.apply(select), null, name);
+            if (id != null) {
+                cacheCollection(id, name);
+                return id;
+            }
+        }
+        throw new SQLException("Could not assign a number to collection " + name);
+    }
+
+    /**
+     * Get an item's bit within its collection.
+     *
+     * @param additions Where to stage a new bit if the item has none,
+     *                  or null to only look it up
+     * @return The bit, or null if it has none and additions is null
+     */
+    public Integer itemBit(Connection conn, int collectionId, String name, Additions additions) throws SQLException {
+        Integer bit = itemBits.getOrDefault(collectionId, Map.of()).get(name);
+        if (bit == null && additions != null) {
+            bit = additions.items.getOrDefault(collectionId, Map.of()).get(name);
+        }
+        if (bit != null) return bit;
+
+        String select = "SELECT bit_index FROM item_ids WHERE collection_id = ? AND name = ?";
+        bit = selectInt(conn, select, collectionId, name);
+        if (bit != null) {
+            cacheItem(collectionId, bit, name);
+            return bit;
+        }
+        if (additions == null) return null;
+
+        int candidate = nextNumber(conn, "SELECT MAX(bit_index) FROM item_ids WHERE collection_id = ?", collectionId, 0);
+        for (int attempt = 0; attempt < MAX_CREATE_ATTEMPTS; attempt++, candidate++) {
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO item_ids (collection_id, bit_index, name) VALUES (?, ?, ?)")) {
+                stmt.setInt(1, collectionId);
+                stmt.setInt(2, candidate);
+                stmt.setString(3, name);
+                stmt.executeUpdate();
+                additions.items.computeIfAbsent(collectionId, c -> new HashMap<>()).put(name, candidate);
+                return candidate;
+            } catch (SQLException e) {
+                if (!isDuplicateKey(e)) throw e;
+            }
+            bit = selectInt(conn, latestRead.apply(select), collectionId, name);
+            if (bit != null) {
+                cacheItem(collectionId, bit, name);
+                return bit;
+            }
+        }
+        throw new SQLException("Could not assign a bit to item " + name + " in collection " + collectionId);
+    }
+
+    /**
+     * Get a collection's ID from its number, or null if unknown.
+     */
+    public String collectionName(Connection conn, int id) throws SQLException {
+        String name = collectionNames.get(id);
+        if (name != null) return name;
+
+        // Added by another server since we last looked; fetch just this row
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT name FROM collection_ids WHERE id = ?")) {
+            stmt.setInt(1, id);
+            ResultSet rs = stmt.executeQuery();
+            if (!rs.next()) return null;
+            name = rs.getString(1);
+        }
+        cacheCollection(id, name);
+        return name;
+    }
+
+    /**
+     * Get an item's ID from its bit, or null if unknown.
+     */
+    public String itemName(Connection conn, int collectionId, int bit) throws SQLException {
+        String name = itemNames.getOrDefault(collectionId, Map.of()).get(bit);
+        if (name != null) return name;
+
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT name FROM item_ids WHERE collection_id = ? AND bit_index = ?")) {
+            stmt.setInt(1, collectionId);
+            stmt.setInt(2, bit);
+            ResultSet rs = stmt.executeQuery();
+            if (!rs.next()) return null;
+            name = rs.getString(1);
+        }
+        cacheItem(collectionId, bit, name);
+        return name;
+    }
+
+    private static Integer selectInt(Connection conn, String sql, Integer collectionId, String name) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (collectionId != null) {
+                stmt.setInt(index++, collectionId);
+            }
+            stmt.setString(index, name);
+            ResultSet rs = stmt.executeQuery();
+            return rs.next() ? rs.getInt(1) : null;
+        }
+    }
+
+    /**
+     * First number above everything already used, including numbers staged in the cache
+     * by this server that the transaction's snapshot might not see yet.
+     */
+    private int nextNumber(Connection conn, String maxQuery, Integer collectionId, int first) throws SQLException {
+        int next = first;
+        try (PreparedStatement stmt = conn.prepareStatement(maxQuery)) {
+            if (collectionId != null) {
+                stmt.setInt(1, collectionId);
+            }
+            ResultSet rs = stmt.executeQuery();
+            if (rs.next() && rs.getObject(1) != null) {
+                next = rs.getInt(1) + 1;
+            }
+        }
+        Map<Integer, ?> known = collectionId != null ? itemNames.getOrDefault(collectionId, Map.of()) : collectionNames;
+        for (int used : known.keySet()) {
+            next = Math.max(next, used + 1);
+        }
+        return next;
+    }
+
+    private static boolean isDuplicateKey(SQLException e) {
+        // SQLState class 23 is an integrity constraint violation; SQLite reports SQLITE_CONSTRAINT (19)
+        return (e.getSQLState() != null && e.getSQLState().startsWith("23")) || e.getErrorCode() == 19;
+    }
+
+    private void cacheCollection(int id, String name) {
+        collectionIds.put(name, id);
+        collectionNames.put(id, name);
+    }
+
+    private void cacheItem(int collectionId, int bit, String name) {
+        itemBits.computeIfAbsent(collectionId, id -> new ConcurrentHashMap<>()).put(name, bit);
+        itemNames.computeIfAbsent(collectionId, id -> new ConcurrentHashMap<>()).put(bit, name);
+    }
+}
@@ -0,0 +1,1076 @@
+package com.blockworlds.collections.storage;
+
+import com.blockworlds.collections.Collections;
+import com.blockworlds.collections.config.ConfigManager;
+import com.blockworlds.collections.model.Collectible;
+import com.blockworlds.collections.model.CollectibleTier;
+import com.blockworlds.collections.model.PlayerProgress;
+import com.blockworlds.collections.util.ChunkIndex;
+import com.zaxxer.hikari.HikariDataSource;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Storage on a JDBC database through a HikariCP pool, shared by the SQLite and MySQL backends.
+ *
+ * Subclasses open the pool and create the schema in {@link #initialize()}, and supply the
+ * dialect's insert-or-replace and insert-or-ignore statements. Everything else (queries,
+ * batching, transactions) is shared, so both backends keep the same schema and behaviour.
+ *
+ * All JDBC work runs on dedicated bounded read and write executors, never the common pool.
+ */
+public abstract class JdbcStorage implements Storage {
+
+    private static final int MAX_CHUNKS_PER_QUERY = 64;
+    private static final int MIGRATION_BATCH_PLAYERS = 500;
+
+    /**
+     * Current version of the player progress schema (see {@link #migrateProgressSchema}).
+     */
+    protected static final int SCHEMA_VERSION = 2;
+
+    protected static final String[] PLAYER_COLUMNS = {"uuid", "total_collectibles_collected",
+            "total_collections_completed", "first_collection_date", "last_activity_date"};
+    protected static final String[] COLLECTION_COLUMNS = {"uuid", "collection_id", "items", "reward_claimed",
+            "completed_date"};
+    protected static final String[] COLLECTIBLE_COLUMNS = {"id", "hitbox_id", "zone_id", "collection_id", "item_id",
+            "world", "x", "y", "z", "tier", "spawned_date", "chunk_x", "chunk_z"};
+
+    protected final Collections plugin;
+    private final String name;
+    protected HikariDataSource dataSource;
+    protected final IdDictionary dictionary = new IdDictionary(this::lockingRead);
+
+    // Online migration of version 1 progress (see migrateProgressSchema)
+    private volatile boolean legacyProgress;
+    private final Set<UUID> migratedPlayers = ConcurrentHashMap.newKeySet();
+    private volatile CompletableFuture<Void> legacyMigration = CompletableFuture.completedFuture(null);
+
+    // Dedicated executors for blocking JDBC work
+    protected StorageExecutor readExecutor;
+    protected StorageExecutor writeExecutor;
+
+    /**
+     * @param plugin The plugin instance
+     * @param name   Backend name for thread names and log messages
+     */
+    protected JdbcStorage(Collections plugin, String name) {
+        this.plugin = plugin;
+        this.name = name;
+    }
+
+    // Dialect
+
+    /**
+     * Build an insert that replaces the non-key columns when the key already exists.
+     *
+     * @param table      The table
+     * @param keyColumns How many leading columns form the primary key
+     * @param columns    Every column, key columns first
+     */
+    protected abstract String upsert(String table, int keyColumns, String... columns);
+
+    /**
+     * Build an insert that does nothing when the key already exists.
+     */
+    protected abstract String insertOrIgnore(String table, String... columns);
+
+    /**
+     * Join columns and their placeholders for an insert: "(a, b) VALUES (?, ?)".
+     */
+    protected static String columnsAndValues(String... columns) {
+        return "(" + String.join(", ", columns) + ") VALUES (" + "?, ".repeat(columns.length - 1) + "?)";
+    }
+
+    /**
+     * Make a SELECT lock the rows it reads until the transaction ends, where the dialect
+     * supports it. Used for read-modify-write of progress rows.
+     */
+    protected String lockingRead(String select) {
+        return select;
+    }
+
+    // Lifecycle
+
+    /**
+     * Create the read and write executors.
+     *
+     * @param singleWriteThread Use one write thread regardless of config (for a dedicated writer)
+     */
+    protected void createExecutors(ConfigManager configManager, boolean singleWriteThread) {
+        int readThreads = configManager != null ? configManager.getStorageReadThreads() : 4;
+        int writeThreads = configManager != null ? configManager.getStorageWriteThreads() : 2;
+        int queueCapacity = configManager != null ? configManager.getStorageQueueCapacity() : 1000;
+        boolean virtualThreads = configManager != null && configManager.isStorageVirtualThreads();
+
+        readExecutor = new StorageExecutor("Collections-" + name + "-Read", readThreads, queueCapacity, virtualThreads);
+        writeExecutor = new StorageExecutor("Collections-" + name + "-Write", singleWriteThread ? 1 : writeThreads,
+                queueCapacity, virtualThreads);
+    }
+
+    @Override
+    public void shutdown() {
+        // Drain queued work before the connections go away
+        if (readExecutor != null) {
+            readExecutor.shutdown(10, TimeUnit.SECONDS, plugin.getLogger());
+        }
+        if (writeExecutor != null) {
+            writeExecutor.shutdown(30, TimeUnit.SECONDS, plugin.getLogger());
+        }
+        closeWriter();
+
+        if (dataSource != null && !dataSource.isClosed()) {
+            dataSource.close();
+            plugin.getLogger().info(name + " storage shut down");
+        }
+    }
+
+    /**
+     * Close the dedicated writer connection, if any. Called after the executors drain.
+     */
+    protected void closeWriter() {
+    }
+
+    // Execution
+
+    /**
+     * A unit of write work, run in one transaction.
+     */
+    @FunctionalInterface
+    protected interface WriteWork {
+        void run(WriteContext ctx) throws SQLException;
+    }
+
+    /**
+     * A unit of read work.
+     */
+    @FunctionalInterface
+    protected interface ReadWork<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Connection plus prepared statements for write work. A dedicated writer's context
+     * keeps its statements for reuse; a pooled context closes them when the work is done.
+     */
+    protected static final class WriteContext implements AutoCloseable {
+        private final Connection connection;
+        private final boolean keepStatements;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        // Dictionary entries created by the current transaction, published on commit
+        private final IdDictionary.Additions additions = new IdDictionary.Additions();
+
+        WriteContext(Connection connection, boolean keepStatements) {
+            this.connection = connection;
+            this.keepStatements = keepStatements;
+        }
+
+        /**
+         * Get a prepared statement for the SQL, reusing a cached one if possible.
+         * Do not close the result.
+         */
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement stmt = statements.get(sql);
+            if (stmt == null || stmt.isClosed()) {
+                stmt = connection.prepareStatement(sql);
+                statements.put(sql, stmt);
+            } else {
+                stmt.clearParameters();
+                stmt.clearBatch();
+            }
+            return stmt;
+        }
+
+        @Override
+        public void close() {
+            for (PreparedStatement stmt : statements.values()) {
+                try {
+                    stmt.close();
+                } catch (SQLException ignored) {
+                    // Closing anyway
+                }
+            }
+            statements.clear();
+        }
+
+        void finish() {
+            if (!keepStatements) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Run write work in a transaction. Completes exceptionally if it fails.
+     */
+    protected CompletableFuture<Void> write(WriteWork work) {
+        if (hasDedicatedWriter()) {
+            return writeExecutor.run(() -> {
+                try {
+                    inTransaction(getWriterContext(), work);
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+
+        return writeExecutor.run(() -> {
+            try (Connection conn = dataSource.getConnection()) {
+                WriteContext ctx = new WriteContext(conn, false);
+                try {
+                    inTransaction(ctx, work);
+                } finally {
+                    ctx.finish();
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Run write work in a transaction, logging instead of failing.
+     */
+    protected CompletableFuture<Void> write(String failureMessage, WriteWork work) {
+        return write(work).exceptionally(throwable -> {
+            plugin.getLogger().log(Level.WARNING, failureMessage, unwrap(throwable));
+            return null;
+        });
+    }
+
+    protected void inTransaction(WriteContext ctx, WriteWork work) throws SQLException {
+        if (ctx == null) {
+            throw new SQLException(name + " writer connection is not open");
+        }
+
+        Connection conn = ctx.connection;
+        conn.setAutoCommit(false);
+        try {
+            work.run(ctx);
+            conn.commit();
+            dictionary.publish(ctx.additions);
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            // Dictionary entries created in this transaction no longer exist
+            ctx.additions.clear();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Run read work on a pooled connection. Completes exceptionally if it fails
+     * or the read queue is full.
+     */
+    protected <T> CompletableFuture<T> read(ReadWork<T> work) {
+        return readExecutor.supply(() -> {
+            try (Connection conn = dataSource.getConnection()) {
+                return work.run(conn);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Run read work on a pooled connection, returning the fallback if the query fails.
+     * A full read queue still completes exceptionally, since nothing was read and the
+     * caller may want to retry rather than act on the fallback.
+     */
+    protected <T> CompletableFuture<T> read(String failureMessage, T fallback, ReadWork<T> work) {
+        return readExecutor.supply(() -> {
+            try (Connection conn = dataSource.getConnection()) {
+                return work.run(conn);
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.WARNING, failureMessage, e);
+                return fallback;
+            }
+        });
+    }
+
+    /**
+     * Check if writes go through one long-lived writer connection instead of the pool.
+     */
+    protected boolean hasDedicatedWriter() {
+        return false;
+    }
+
+    /**
+     * Get the dedicated writer's context (only used when {@link #hasDedicatedWriter()}).
+     */
+    protected WriteContext getWriterContext() {
+        return null;
+    }
+
+    /**
+     * Get the executor that runs reads (for metrics).
+     */
+    public StorageExecutor getReadExecutor() {
+        return readExecutor;
+    }
+
+    /**
+     * Get the executor that runs writes (for metrics).
+     */
+    public StorageExecutor getWriteExecutor() {
+        return writeExecutor;
+    }
+
+    protected static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+    }
+
+    // Player Data Operations
+
+    @Override
+    public CompletableFuture<PlayerProgress> loadPlayer(UUID playerId) {
+        return migrateBeforeUse(playerId).thenCompose(ignored -> read(conn -> {
+            PlayerProgress progress = new PlayerProgress(playerId);
+            byte[] uuid = uuidBytes(playerId);
+
+            // Load base player data
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT * FROM player_stats WHERE uuid = ?")) {
+                stmt.setBytes(1, uuid);
+                ResultSet rs = stmt.executeQuery();
+                if (rs.next()) {
+                    progress.setTotalCollectiblesCollected(rs.getInt("total_collectibles_collected"));
+                    progress.setTotalCollectionsCompleted(rs.getInt("total_collections_completed"));
+                    progress.setFirstCollectionDate(rs.getLong("first_collection_date"));
+                    progress.setLastActivityDate(rs.getLong("last_activity_date"));
+                }
+            }
+
+            // One row per collection: status plus the bitset of collected items
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT * FROM player_collections WHERE uuid = ?")) {
+                stmt.setBytes(1, uuid);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    int collection = rs.getInt("collection_id");
+                    String collectionId = dictionary.collectionName(conn, collection);
+                    if (collectionId == null) {
+                        plugin.getLogger().warning("Unknown collection number " + collection + " for player " + playerId);
+                        continue;
+                    }
+
+                    PlayerProgress.CollectionProgress colProgress = progress.getProgress(collectionId);
+                    colProgress.setRewardClaimed(rs.getBoolean("reward_claimed"));
+                    colProgress.setCompletedDate(rs.getLong("completed_date"));
+                    if (colProgress.getCompletedDate() > 0) {
+                        colProgress.setComplete(true);
+                    }
+
+                    BitSet bits = decodeBits(rs.getBytes("items"));
+                    for (int bit = bits.nextSetBit(0); bit >= 0; bit = bits.nextSetBit(bit + 1)) {
+                        String itemId = dictionary.itemName(conn, collection, bit);
+                        if (itemId != null) {
+                            colProgress.addItemDirect(itemId);
+                        }
+                    }
+                }
+            }
+
+            return progress;
+        })).orTimeout(30, TimeUnit.SECONDS).whenComplete((progress, throwable) -> {
+            if (throwable != null) {
+                plugin.getLogger().log(Level.WARNING, "Failed to load player data: " + playerId, unwrap(throwable));
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> savePlayer(PlayerProgress progress) {
+        PlayerProgress.Changes changes = progress.drainChanges();
+        if (changes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        byte[] uuid = uuidBytes(progress.getPlayerId());
+        return write(ctx -> {
+            if (changes.totalsChanged()) {
+                PreparedStatement playerStmt = ctx.prepare(upsert("player_stats", 1, PLAYER_COLUMNS));
+                playerStmt.setBytes(1, uuid);
+                playerStmt.setInt(2, changes.totalCollectiblesCollected());
+                playerStmt.setInt(3, changes.totalCollectionsCompleted());
+                playerStmt.setLong(4, changes.firstCollectionDate());
+                playerStmt.setLong(5, changes.lastActivityDate());
+                playerStmt.executeUpdate();
+            }
+
+            // Only collections with new items or a changed status since the last save
+            Set<String> touched = new LinkedHashSet<>(changes.newItems().keySet());
+            touched.addAll(changes.collections().keySet());
+            if (touched.isEmpty()) {
+                return;
+            }
+
+            CollectionMerge merge = new CollectionMerge(ctx);
+            for (String collectionId : touched) {
+                PlayerProgress.CollectionProgress status = changes.collections().get(collectionId);
+                merge.add(uuid, collectionId, changes.newItems().getOrDefault(collectionId, Set.of()),
+                        status == null ? null : new PlayerWrites.CollectionStatus(
+                                status.isComplete(), status.isRewardClaimed(), status.getCompletedDate()));
+            }
+            merge.execute();
+        }).orTimeout(30, TimeUnit.SECONDS).exceptionally(throwable -> {
+            // Hand the changes back so the next save retries them
+            progress.restoreChanges(changes);
+            plugin.getLogger().log(Level.WARNING, "Failed to save player data: " + progress.getPlayerId(),
+                    unwrap(throwable));
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> saveCollectedItem(UUID playerId, String collectionId, String itemId) {
+        return write("Failed to save collected item", ctx -> {
+            CollectionMerge merge = new CollectionMerge(ctx);
+            merge.add(uuidBytes(playerId), collectionId, Set.of(itemId), null);
+            merge.execute();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> updateCollectionStatus(UUID playerId, String collectionId, boolean complete, boolean rewardClaimed) {
+        return write("Failed to update collection status", ctx -> {
+            CollectionMerge merge = new CollectionMerge(ctx);
+            merge.add(uuidBytes(playerId), collectionId, Set.of(), new PlayerWrites.CollectionStatus(
+                    complete, rewardClaimed, complete ? System.currentTimeMillis() : 0));
+            merge.execute();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> saveBatch(java.util.Collection<PlayerWrites> batch) {
+        return write(ctx -> {
+            CollectionMerge merge = new CollectionMerge(ctx);
+            for (PlayerWrites writes : batch) {
+                byte[] uuid = uuidBytes(writes.getPlayerId());
+                Set<String> touched = new LinkedHashSet<>(writes.getItems().keySet());
+                touched.addAll(writes.getStatuses().keySet());
+                for (String collectionId : touched) {
+                    merge.add(uuid, collectionId, writes.getItems().getOrDefault(collectionId, Set.of()),
+                            writes.getStatuses().get(collectionId));
+                }
+            }
+            merge.execute();
+        });
+    }
+
+    /**
+     * A player's stored row for one collection.
+     */
+    private static final class CollectionRow {
+        BitSet items = new BitSet();
+        boolean rewardClaimed;
+        long completedDate;
+    }
+
+    /**
+     * Merges item and status writes into player_collections rows within one transaction.
+     * Each row is read (locked where the dialect supports it), the new item bits are OR'd
+     * into its bitset, and the upserts go out as one batch. Add each (player, collection)
+     * at most once per merge.
+     *
+     * A missing row is inserted empty before it is read, so the locking read always locks
+     * an existing row rather than a gap, which concurrent writers could deadlock on.
+     */
+    private final class CollectionMerge {
+        private final WriteContext ctx;
+        private final PreparedStatement ensure;
+        private final PreparedStatement select;
+        private final PreparedStatement upsert;
+        private boolean pending;
+
+        CollectionMerge(WriteContext ctx) throws SQLException {
+            this.ctx = ctx;
+            this.ensure = ctx.prepare(insertOrIgnore("player_collections", "uuid", "collection_id"));
+            this.select = ctx.prepare(lockingRead(
+                    "SELECT items, reward_claimed, completed_date FROM player_collections WHERE uuid = ? AND collection_id = ?"));
+            this.upsert = ctx.prepare(upsert("player_collections", 2, COLLECTION_COLUMNS));
+        }
+
+        /**
+         * Queue a merge.
+         *
+         * @param items  Items to add
+         * @param status New status, or null to keep the stored one
+         */
+        void add(byte[] uuid, String collectionId, Set<String> items, PlayerWrites.CollectionStatus status)
+                throws SQLException {
+            int collection = dictionary.collectionId(ctx.connection, collectionId, ctx.additions);
+            ensure.setBytes(1, uuid);
+            ensure.setInt(2, collection);
+            ensure.executeUpdate();
+            CollectionRow row = readRow(uuid, collection);
+            if (row == null) {
+                row = new CollectionRow();
+            }
+            for (String itemId : items) {
+                row.items.set(dictionary.itemBit(ctx.connection, collection, itemId, ctx.additions));
+            }
+            if (status != null) {
+                row.rewardClaimed = status.rewardClaimed();
+                row.completedDate = status.completedDate();
+            }
+            add(uuid, collection, row);
+        }
+
+        /**
+         * Read the stored row, or null if there is none.
+         */
+        CollectionRow readRow(byte[] uuid, int collection) throws SQLException {
+            select.setBytes(1, uuid);
+            select.setInt(2, collection);
+            try (ResultSet rs = select.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                CollectionRow row = new CollectionRow();
+                row.items = decodeBits(rs.getBytes("items"));
+                row.rewardClaimed = rs.getBoolean("reward_claimed");
+                row.completedDate = rs.getLong("completed_date");
+                return row;
+            }
+        }
+
+        /**
+         * Queue a row to be written as-is.
+         */
+        void add(byte[] uuid, int collection, CollectionRow row) throws SQLException {
+            upsert.setBytes(1, uuid);
+            upsert.setInt(2, collection);
+            upsert.setBytes(3, row.items.toByteArray());
+            upsert.setBoolean(4, row.rewardClaimed);
+            upsert.setLong(5, row.completedDate);
+            upsert.addBatch();
+            pending = true;
+        }
+
+        void execute() throws SQLException {
+            if (pending) {
+                upsert.executeBatch();
+                pending = false;
+            }
+        }
+    }
+
+    protected static byte[] uuidBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static BitSet decodeBits(byte[] bytes) {
+        return bytes != null ? BitSet.valueOf(bytes) : new BitSet();
+    }
+
+    // Schema
+
+    /**
+     * Bring the player progress tables up to {@link #SCHEMA_VERSION}. Call after creating
+     * the current tables, on a connection in auto-commit mode.
+     *
+     * Version 1 kept progress in players, collection_progress and collected_items, keyed by
+     * text UUIDs with one row per collected item. Version 2 keys players by 16-byte UUIDs and
+     * stores each collection as one row with a bitset of collected items, numbered through the
+     * collection_ids and item_ids dictionaries.
+     *
+     * The copy runs online: batches of players go through the write executor in the
+     * background, between live writes, and a player who loads before their batch is copied
+     * first (see {@link #loadPlayer}). The old tables are left in place and the version is
+     * recorded once every player is copied. Rows are merged rather than overwritten, so
+     * copying a player twice, or rerunning after a restart, never loses newer progress.
+     */
+    protected void migrateProgressSchema(Connection conn) throws SQLException {
+        int version;
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            version = rs.next() ? rs.getInt(1) : 0;
+        }
+
+        dictionary.load(conn);
+        if (version >= SCHEMA_VERSION) {
+            return;
+        }
+
+        if (tableExists(conn, "collected_items")) {
+            legacyProgress = true;
+            plugin.getLogger().info("Migrating player progress to schema version " + SCHEMA_VERSION
+                    + " in the background; players are migrated on join until it finishes");
+            legacyMigration = new CompletableFuture<>();
+            copyLegacyBatch("", 0);
+        } else {
+            recordSchemaVersion(conn);
+        }
+    }
+
+    private static void recordSchemaVersion(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO schema_version (version) VALUES (?)")) {
+            stmt.setInt(1, SCHEMA_VERSION);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static boolean tableExists(Connection conn, String table) {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeQuery("SELECT 1 FROM " + table + " WHERE 1 = 0").close();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get the background legacy progress copy, which completes once every player is copied
+     * (already complete when there was nothing to migrate).
+     */
+    CompletableFuture<Void> getLegacyMigration() {
+        return legacyMigration;
+    }
+
+    /**
+     * Copy the next batch of legacy players after the given UUID, then queue the batch after it.
+     */
+    private void copyLegacyBatch(String after, int migrated) {
+        List<String> batch = new ArrayList<>();
+        List<UUID> copied = new ArrayList<>();
+        write(ctx -> {
+            batch.clear();
+            copied.clear();
+            try (PreparedStatement stmt = ctx.connection.prepareStatement("""
+                    SELECT uuid FROM (
+                        SELECT uuid FROM players
+                        UNION SELECT uuid FROM collection_progress
+                        UNION SELECT uuid FROM collected_items
+                    ) legacy WHERE uuid > ? ORDER BY uuid
+                    """)) {
+                stmt.setString(1, after);
+                stmt.setMaxRows(MIGRATION_BATCH_PLAYERS);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    batch.add(rs.getString("uuid"));
+                }
+            }
+
+            if (batch.isEmpty()) {
+                recordSchemaVersion(ctx.connection);
+            } else {
+                copyLegacyPlayers(ctx, batch, copied);
+            }
+        }).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                // Players keep migrating on join; the copy resumes from the start next restart
+                plugin.getLogger().log(Level.SEVERE, "Failed to migrate player progress after "
+                        + migrated + " players", unwrap(throwable));
+                legacyMigration.completeExceptionally(unwrap(throwable));
+            } else if (batch.isEmpty()) {
+                legacyProgress = false;
+                migratedPlayers.clear();
+                plugin.getLogger().info("Database migration complete: " + migrated + " players moved to "
+                        + "player_stats and player_collections. The old players, collection_progress and "
+                        + "collected_items tables are kept as a backup and can be dropped.");
+                legacyMigration.complete(null);
+            } else {
+                migratedPlayers.addAll(copied);
+                int total = migrated + batch.size();
+                plugin.getLogger().info("Migrated progress of " + total + " players...");
+                copyLegacyBatch(batch.get(batch.size() - 1), total);
+            }
+        });
+    }
+
+    /**
+     * Copy one player's legacy progress before it is loaded or reset, if the background
+     * copy hasn't reached them yet.
+     */
+    private CompletableFuture<Void> migrateBeforeUse(UUID playerId) {
+        if (!legacyProgress || migratedPlayers.contains(playerId)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<UUID> copied = new ArrayList<>();
+        return write(ctx -> copyLegacyPlayers(ctx, List.of(playerId.toString()), copied))
+                .thenRun(() -> migratedPlayers.addAll(copied));
+    }
+
+    /**
+     * Copy legacy players into the current tables, within the caller's transaction.
+     * Players already copied are skipped.
+     *
+     * @param copied Receives the players copied; only count them as migrated once committed
+     */
+    private void copyLegacyPlayers(WriteContext ctx, List<String> players, List<UUID> copied) throws SQLException {
+        Connection conn = ctx.connection;
+        PreparedStatement statsRead = ctx.prepare("SELECT * FROM players WHERE uuid = ?");
+        PreparedStatement progressRead = ctx.prepare("SELECT * FROM collection_progress WHERE uuid = ?");
+        PreparedStatement itemsRead = ctx.prepare("SELECT collection_id, item_id FROM collected_items WHERE uuid = ?");
+        // Stats already written by this version are newer than the legacy copy
+        PreparedStatement statsWrite = ctx.prepare(insertOrIgnore("player_stats", PLAYER_COLUMNS));
+        CollectionMerge merge = new CollectionMerge(ctx);
+
+        for (String player : players) {
+            UUID playerId;
+            try {
+                playerId = UUID.fromString(player);
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Skipping progress with invalid UUID: " + player);
+                continue;
+            }
+            if (migratedPlayers.contains(playerId)) continue;
+            byte[] uuid = uuidBytes(playerId);
+
+            statsRead.setString(1, player);
+            try (ResultSet rs = statsRead.executeQuery()) {
+                if (rs.next()) {
+                    statsWrite.setBytes(1, uuid);
+                    statsWrite.setInt(2, rs.getInt("total_collectibles_collected"));
+                    statsWrite.setInt(3, rs.getInt("total_collections_completed"));
+                    statsWrite.setLong(4, rs.getLong("first_collection_date"));
+                    statsWrite.setLong(5, rs.getLong("last_activity_date"));
+                    statsWrite.addBatch();
+                }
+            }
+
+            Map<Integer, CollectionRow> rows = new HashMap<>();
+            progressRead.setString(1, player);
+            try (ResultSet rs = progressRead.executeQuery()) {
+                while (rs.next()) {
+                    int collection = dictionary.collectionId(conn, rs.getString("collection_id"), ctx.additions);
+                    CollectionRow row = rows.computeIfAbsent(collection, c -> new CollectionRow());
+                    row.rewardClaimed = rs.getBoolean("reward_claimed");
+                    row.completedDate = rs.getLong("completed_date");
+                }
+            }
+            itemsRead.setString(1, player);
+            try (ResultSet rs = itemsRead.executeQuery()) {
+                while (rs.next()) {
+                    int collection = dictionary.collectionId(conn, rs.getString("collection_id"), ctx.additions);
+                    rows.computeIfAbsent(collection, c -> new CollectionRow()).items
+                            .set(dictionary.itemBit(conn, collection, rs.getString("item_id"), ctx.additions));
+                }
+            }
+
+            for (Map.Entry<Integer, CollectionRow> entry : rows.entrySet()) {
+                CollectionRow row = entry.getValue();
+                CollectionRow stored = merge.readRow(uuid, entry.getKey());
+                if (stored != null) {
+                    // Written since a failed earlier run: keep its status, add the legacy items
+                    stored.items.or(row.items);
+                    row = stored;
+                }
+                merge.add(uuid, entry.getKey(), row);
+            }
+            copied.add(playerId);
+        }
+
+        statsWrite.executeBatch();
+        merge.execute();
+    }
+
+    // Collectible Operations
+
+    @Override
+    public CompletableFuture<Void> saveCollectible(Collectible collectible) {
+        return write("Failed to save collectible", ctx -> {
+            PreparedStatement stmt = ctx.prepare(upsert("active_collectibles", 1, COLLECTIBLE_COLUMNS));
+            bindCollectible(stmt, collectible);
+            stmt.executeUpdate();
+        }).orTimeout(30, TimeUnit.SECONDS).exceptionally(throwable -> {
+            plugin.getLogger().log(Level.WARNING, "Timeout saving collectible: " + collectible.id(), throwable);
+            return null;
+        });
+    }
+
+    /**
+     * Bind a collectible to an active_collectibles insert.
+     */
+    private static void bindCollectible(PreparedStatement stmt, Collectible collectible) throws SQLException {
+        stmt.setString(1, collectible.id().toString());
+        stmt.setString(2, collectible.hitboxId() != null ? collectible.hitboxId().toString() : null);
+        stmt.setString(3, collectible.zoneId());
+        stmt.setString(4, collectible.collectionId());
+        stmt.setString(5, collectible.itemId());
+        stmt.setString(6, collectible.getWorldName());
+        stmt.setDouble(7, collectible.location().getX());
+        stmt.setDouble(8, collectible.location().getY());
+        stmt.setDouble(9, collectible.location().getZ());
+        stmt.setString(10, collectible.tier().name());
+        stmt.setLong(11, collectible.spawnedAt());
+        stmt.setInt(12, ChunkIndex.toChunk(collectible.location().getX()));
+        stmt.setInt(13, ChunkIndex.toChunk(collectible.location().getZ()));
+    }
+
+    @Override
+    public CompletableFuture<Void> removeCollectible(UUID collectibleId) {
+        return write("Failed to remove collectible", ctx -> {
+            PreparedStatement stmt = ctx.prepare("DELETE FROM active_collectibles WHERE id = ?");
+            stmt.setString(1, collectibleId.toString());
+            stmt.executeUpdate();
+        }).orTimeout(30, TimeUnit.SECONDS).exceptionally(throwable -> {
+            plugin.getLogger().log(Level.WARNING, "Timeout removing collectible: " + collectibleId, throwable);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> saveCollectibleBatch(CollectibleWrites batch) {
+        return write(ctx -> {
+            // Clears first: everything else in the batch was queued after them
+            if (batch.isClearAll()) {
+                ctx.prepare("DELETE FROM active_collectibles").executeUpdate();
+            } else if (!batch.getClearedZones().isEmpty()) {
+                PreparedStatement clearStmt = ctx.prepare("DELETE FROM active_collectibles WHERE zone_id = ?");
+                for (String zoneId : batch.getClearedZones()) {
+                    clearStmt.setString(1, zoneId);
+                    clearStmt.addBatch();
+                }
+                clearStmt.executeBatch();
+            }
+
+            if (!batch.getRemovals().isEmpty()) {
+                PreparedStatement removeStmt = ctx.prepare("DELETE FROM active_collectibles WHERE id = ?");
+                for (UUID collectibleId : batch.getRemovals()) {
+                    removeStmt.setString(1, collectibleId.toString());
+                    removeStmt.addBatch();
+                }
+                removeStmt.executeBatch();
+            }
+
+            if (!batch.getSaves().isEmpty()) {
+                PreparedStatement saveStmt = ctx.prepare(upsert("active_collectibles", 1, COLLECTIBLE_COLUMNS));
+                for (Collectible collectible : batch.getSaves().values()) {
+                    bindCollectible(saveStmt, collectible);
+                    saveStmt.addBatch();
+                }
+                saveStmt.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Collectible>> loadAllCollectibles() {
+        return read("Failed to load collectibles", new ArrayList<>(), conn -> {
+            List<Collectible> collectibles = new ArrayList<>();
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT * FROM active_collectibles")) {
+
+                while (rs.next()) {
+                    Collectible collectible = parseCollectible(rs);
+                    if (collectible != null) {
+                        collectibles.add(collectible);
+                    }
+                }
+            }
+            return collectibles;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<Collectible>> loadCollectiblesInChunk(String worldName, int chunkX, int chunkZ) {
+        return loadCollectiblesInChunks(worldName, List.of(ChunkIndex.chunkKey(chunkX, chunkZ)));
+    }
+
+    @Override
+    public CompletableFuture<List<Collectible>> loadCollectiblesInChunks(String worldName,
+                                                                        java.util.Collection<Long> chunkKeys) {
+        if (chunkKeys.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        return read(conn -> {
+            List<Collectible> collectibles = new ArrayList<>();
+            List<Long> keys = new ArrayList<>(chunkKeys);
+
+            // One query per group; each chunk term is an index seek on (world, chunk_x, chunk_z)
+            for (int from = 0; from < keys.size(); from += MAX_CHUNKS_PER_QUERY) {
+                List<Long> group = keys.subList(from, Math.min(keys.size(), from + MAX_CHUNKS_PER_QUERY));
+                StringBuilder sql = new StringBuilder("SELECT * FROM active_collectibles WHERE world = ? AND (");
+                for (int i = 0; i < group.size(); i++) {
+                    sql.append(i == 0 ? "" : " OR ").append("(chunk_x = ? AND chunk_z = ?)");
+                }
+                sql.append(')');
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                    int index = 1;
+                    stmt.setString(index++, worldName);
+                    for (long key : group) {
+                        stmt.setInt(index++, (int) (key >> 32));
+                        stmt.setInt(index++, (int) key);
+                    }
+
+                    ResultSet rs = stmt.executeQuery();
+                    while (rs.next()) {
+                        Collectible collectible = parseCollectible(rs);
+                        if (collectible != null) {
+                            collectibles.add(collectible);
+                        }
+                    }
+                }
+            }
+            return collectibles;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Integer>> countCollectiblesByZone(long spawnedSince) {
+        return read(conn -> {
+            Map<String, Integer> counts = new HashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "SELECT zone_id, COUNT(*) AS total FROM active_collectibles WHERE spawned_date >= ? GROUP BY zone_id")) {
+                stmt.setLong(1, spawnedSince);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) {
+                    counts.put(rs.getString("zone_id"), rs.getInt("total"));
+                }
+            }
+            return counts;
+        });
+    }
+
+    private Collectible parseCollectible(ResultSet rs) throws SQLException {
+        String worldName = rs.getString("world");
+        World world = Bukkit.getWorld(worldName);
+        if (world == null) {
+            return null; // World not loaded
+        }
+
+        Location location = new Location(
+                world,
+                rs.getDouble("x"),
+                rs.getDouble("y"),
+                rs.getDouble("z")
+        );
+
+        String hitboxIdStr = rs.getString("hitbox_id");
+
+        return new Collectible(
+                UUID.fromString(rs.getString("id")),
+                hitboxIdStr != null ? UUID.fromString(hitboxIdStr) : null,
+                rs.getString("zone_id"),
+                rs.getString("collection_id"),
+                rs.getString("item_id"),
+                location,
+                CollectibleTier.fromString(rs.getString("tier")),
+                rs.getLong("spawned_date"),
+                false // Will be set to true when entities are spawned
+        );
+    }
+
+    @Override
+    public CompletableFuture<Void> clearAllCollectibles() {
+        return write("Failed to clear collectibles", ctx ->
+                ctx.prepare("DELETE FROM active_collectibles").executeUpdate());
+    }
+
+    @Override
+    public CompletableFuture<Void> clearCollectiblesInZone(String zoneId) {
+        return write("Failed to clear collectibles in zone", ctx -> {
+            PreparedStatement stmt = ctx.prepare("DELETE FROM active_collectibles WHERE zone_id = ?");
+            stmt.setString(1, zoneId);
+            stmt.executeUpdate();
+        });
+    }
+
+    // Statistics
+
+    @Override
+    public CompletableFuture<Integer> getTotalCollectiblesCollected() {
+        return read("Failed to get total collectibles", 0, conn -> {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT SUM(total_collectibles_collected) as total FROM player_stats")) {
+                return rs.next() ? rs.getInt("total") : 0;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getTotalCollectionsCompleted() {
+        return read("Failed to get total collections", 0, conn -> {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT SUM(total_collections_completed) as total FROM player_stats")) {
+                return rs.next() ? rs.getInt("total") : 0;
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> backupPlayerData(UUID playerId) {
+        return writeExecutor.run(() -> {
+            // For Phase 1, we'll just log that a backup was requested
+            // Full implementation would copy data to a backup table
+            plugin.getLogger().info("Backup requested for player: " + playerId);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> resetPlayer(UUID playerId) {
+        // Migrated first, so the background copy can't bring the legacy progress back
+        return migrateBeforeUse(playerId).thenCompose(ignored -> write(ctx -> {
+            byte[] uuid = uuidBytes(playerId);
+
+            // Delete every collection row
+            PreparedStatement progressStmt = ctx.prepare("DELETE FROM player_collections WHERE uuid = ?");
+            progressStmt.setBytes(1, uuid);
+            progressStmt.executeUpdate();
+
+            // Reset player stats
+            PreparedStatement playerStmt = ctx.prepare("""
+                    UPDATE player_stats SET
+                    total_collectibles_collected = 0,
+                    total_collections_completed = 0,
+                    first_collection_date = 0,
+                    last_activity_date = 0
+                    WHERE uuid = ?
+                    """);
+            playerStmt.setBytes(1, uuid);
+            playerStmt.executeUpdate();
+        })).thenRun(() -> plugin.getLogger().info("Reset all progress for player: " + playerId))
+                .exceptionally(throwable -> {
+                    plugin.getLogger().log(Level.WARNING, "Failed to reset player data: " + playerId, unwrap(throwable));
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> resetPlayerCollection(UUID playerId, String collectionId) {
+        return migrateBeforeUse(playerId).thenCompose(ignored -> write(ctx -> {
+            Integer collection = dictionary.collectionId(ctx.connection, collectionId, null);
+            if (collection == null) {
+                return; // Nobody has progress in it
+            }
+
+            // Items and status live in the same row
+            PreparedStatement progressStmt = ctx.prepare(
+                    "DELETE FROM player_collections WHERE uuid = ? AND collection_id = ?");
+            progressStmt.setBytes(1, uuidBytes(playerId));
+            progressStmt.setInt(2, collection);
+            progressStmt.executeUpdate();
+        })).thenRun(() -> plugin.getLogger().info("Reset collection '" + collectionId + "' for player: " + playerId))
+                .exceptionally(throwable -> {
+                    plugin.getLogger().log(Level.WARNING,
+                            "Failed to reset collection for player: " + playerId, unwrap(throwable));
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,203 @@
+package com.blockworlds.collections.storage;
+
+import com.blockworlds.collections.Collections;
+import com.blockworlds.collections.config.ConfigManager;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * MySQL/MariaDB implementation of the Storage interface, so several servers can share
+ * player progress. Uses the same schema and queries as SQLite (see {@link JdbcStorage}).
+ *
+ * Statements are prepared server-side and cached per connection, and batched inserts
+ * are rewritten into multi-row statements. Only the storage executor threads ever hold
+ * a connection, so the pool is never larger than those threads can use.
+ */
+public class MySQLStorage extends JdbcStorage {
+
+    private static final String DRIVER_CLASS = "com.mysql.cj.jdbc.Driver";
+
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    // Connector/J tuning only applies to the real driver, not a test database
+    private final boolean connectorJ;
+
+    public MySQLStorage(Collections plugin) {
+        super(plugin, "MySQL");
+        ConfigManager config = plugin.getConfigManager();
+        this.jdbcUrl = "jdbc:mysql://" + config.getMysqlHost() + ":" + config.getMysqlPort()
+                + "/" + config.getMysqlDatabase();
+        this.username = config.getMysqlUsername();
+        this.password = config.getMysqlPassword();
+        this.connectorJ = true;
+    }
+
+    /**
+     * Constructor for testing against another database in MySQL mode (e.g. H2).
+     *
+     * @param plugin   The plugin instance
+     * @param jdbcUrl  JDBC URL of the database
+     * @param username Database user
+     * @param password Database password
+     */
+    public MySQLStorage(Collections plugin, String jdbcUrl, String username, String password) {
+        super(plugin, "MySQL");
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+        this.connectorJ = false;
+    }
+
+    @Override
+    public void initialize() {
+        ConfigManager configManager = plugin.getConfigManager();
+        createExecutors(configManager, false);
+
+        // Connections beyond what the executor threads can hold would only sit idle
+        int threads = configManager != null
+                ? configManager.getStorageReadThreads() + configManager.getStorageWriteThreads() : 6;
+        int configuredSize = configManager != null ? configManager.getMysqlPoolSize() : 10;
+        int poolSize = Math.max(1, Math.min(configuredSize, threads));
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setPoolName("Collections-MySQL");
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(Math.min(2, poolSize));
+        config.setConnectionTimeout(10000);
+        // Retire connections well before the server's wait_timeout drops them
+        config.setMaxLifetime(TimeUnit.MINUTES.toMillis(30));
+        config.setKeepaliveTime(TimeUnit.MINUTES.toMillis(5));
+
+        if (connectorJ) {
+            config.setDriverClassName(DRIVER_CLASS);
+
+            // Server-side prepared statements, cached per connection
+            config.addDataSourceProperty("useServerPrepStmts", "true");
+            config.addDataSourceProperty("cachePrepStmts", "true");
+            config.addDataSourceProperty("prepStmtCacheSize", "250");
+            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+
+            // Send batches as multi-row statements instead of one round trip per row
+            config.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+            // Skip round trips for session state the driver already knows
+            config.addDataSourceProperty("useLocalSessionState", "true");
+            config.addDataSourceProperty("cacheServerConfiguration", "true");
+            config.addDataSourceProperty("elideSetAutoCommits", "true");
+            config.addDataSourceProperty("maintainTimeStats", "false");
+        }
+
+        dataSource = new HikariDataSource(config);
+        try (Connection conn = dataSource.getConnection()) {
+            createTables(conn);
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to create database tables", e);
+        }
+
+        plugin.getLogger().info("MySQL storage initialized (pool of " + poolSize + ")");
+    }
+
+    private void createTables(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version (version INT NOT NULL)");
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS collection_ids (
+                    id INT PRIMARY KEY,
+                    name VARCHAR(64) NOT NULL UNIQUE
+                )
+                """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS item_ids (
+                    collection_id INT NOT NULL,
+                    bit_index INT NOT NULL,
+                    name VARCHAR(64) NOT NULL,
+                    PRIMARY KEY (collection_id, bit_index),
+                    UNIQUE (collection_id, name)
+                )
+                """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS player_stats (
+                    uuid BINARY(16) PRIMARY KEY,
+                    total_collectibles_collected INT DEFAULT 0,
+                    total_collections_completed INT DEFAULT 0,
+                    first_collection_date BIGINT DEFAULT 0,
+                    last_activity_date BIGINT DEFAULT 0
+                )
+                """);
+
+            // InnoDB clusters on the primary key, so a player's collections are adjacent
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS player_collections (
+                    uuid BINARY(16) NOT NULL,
+                    collection_id INT NOT NULL,
+                    items VARBINARY(8192),
+                    reward_claimed BOOLEAN DEFAULT FALSE,
+                    completed_date BIGINT DEFAULT 0,
+                    PRIMARY KEY (uuid, collection_id)
+                )
+                """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS active_collectibles (
+                    id VARCHAR(36) PRIMARY KEY,
+                    hitbox_id VARCHAR(36),
+                    zone_id VARCHAR(64),
+                    collection_id VARCHAR(64),
+                    item_id VARCHAR(64),
+                    world VARCHAR(64),
+                    x DOUBLE,
+                    y DOUBLE,
+                    z DOUBLE,
+                    tier VARCHAR(32),
+                    spawned_date BIGINT,
+                    chunk_x INT,
+                    chunk_z INT,
+                    INDEX idx_collectibles_zone (zone_id),
+                    INDEX idx_collectibles_chunk (world, chunk_x, chunk_z)
+                )
+                """);
+        }
+        migrateProgressSchema(conn);
+    }
+
+    // Dialect
+
+    @Override
+    protected String upsert(String table, int keyColumns, String... columns) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(' ')
+                .append(columnsAndValues(columns)).append(" ON DUPLICATE KEY UPDATE ");
+        for (int i = keyColumns; i < columns.length; i++) {
+            if (i > keyColumns) {
+                sql.append(", ");
+            }
+            // VALUES() rather than a row alias, which MariaDB doesn't support
+            sql.append(columns[i]).append(" = VALUES(").append(columns[i]).append(')');
+        }
+        return sql.toString();
+    }
+
+    @Override
+    protected String insertOrIgnore(String table, String... columns) {
+        return "INSERT IGNORE INTO " + table + " " + columnsAndValues(columns);
+    }
+
+    @Override
+    protected String lockingRead(String select) {
+        // Another write thread or server may be merging into the same row
+        return select + " FOR UPDATE";
+    }
+}
@@ -0,0 +1,106 @@
+package com.blockworlds.collections.storage;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Coalesced progress writes for one player, waiting to be flushed in a batch.
+ * Collected items accumulate; a collection's status keeps only its latest value.
+ *
+ * Not thread-safe: owned by whoever holds it (the journal while queued, the storage while flushing).
+ */
+public class PlayerWrites {
+
+    /**
+     * Latest status of a collection.
+     *
+     * @param complete      Whether the collection is complete
+     * @param rewardClaimed Whether rewards have been claimed
+     * @param completedDate When the collection was completed (0 if not complete)
+     */
+    public record CollectionStatus(boolean complete, boolean rewardClaimed, long completedDate) {
+    }
+
+    private final UUID playerId;
+    private final Map<String, Set<String>> items = new LinkedHashMap<>();
+    private final Map<String, CollectionStatus> statuses = new LinkedHashMap<>();
+
+    public PlayerWrites(UUID playerId) {
+        this.playerId = playerId;
+    }
+
+    /**
+     * Queue a collected item.
+     *
+     * @return true if this was not already queued
+     */
+    public boolean addItem(String collectionId, String itemId) {
+        return items.computeIfAbsent(collectionId, id -> new LinkedHashSet<>()).add(itemId);
+    }
+
+    /**
+     * Queue a collection status, replacing any queued status for the same collection.
+     *
+     * @return true if the collection had no queued status
+     */
+    public boolean setStatus(String collectionId, CollectionStatus status) {
+        return statuses.put(collectionId, status) == null;
+    }
+
+    /**
+     * Fold in writes that were queued before these (after a failed flush).
+     * Items are merged; statuses already queued here are newer and win.
+     */
+    public void absorbOlder(PlayerWrites older) {
+        for (Map.Entry<String, Set<String>> entry : older.items.entrySet()) {
+            items.computeIfAbsent(entry.getKey(), id -> new LinkedHashSet<>()).addAll(entry.getValue());
+        }
+        for (Map.Entry<String, CollectionStatus> entry : older.statuses.entrySet()) {
+            statuses.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Drop queued writes for one collection (after it was reset).
+     */
+    public void removeCollection(String collectionId) {
+        items.remove(collectionId);
+        statuses.remove(collectionId);
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Get queued items, by collection ID.
+     */
+    public Map<String, Set<String>> getItems() {
+        return items;
+    }
+
+    /**
+     * Get queued statuses, by collection ID.
+     */
+    public Map<String, CollectionStatus> getStatuses() {
+        return statuses;
+    }
+
+    /**
+     * Number of rows this batch will write.
+     */
+    public int size() {
+        int size = statuses.size();
+        for (Set<String> collected : items.values()) {
+            size += collected.size();
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty() && statuses.isEmpty();
+    }
+}
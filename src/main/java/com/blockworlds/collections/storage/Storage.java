@@ -28,12 +28,16 @@ public interface Storage {
      * Load player progress data.
      *
      * @param playerId The player's UUID
-     * @return CompletableFuture containing the player's progress, or a new empty progress if none exists
+     * @return CompletableFuture containing the player's progress, or a new empty progress if none exists.
+     *         Completes exceptionally if the data could not be read, so callers never mistake
+     *         a failed load for a new player.
      */
     CompletableFuture<PlayerProgress> loadPlayer(UUID playerId);
 
     /**
-     * Save player progress data.
+     * Save player progress changes made since the last save, in one transaction.
+     * The changes are drained from the progress; if the save fails they are put back
+     * so the next save retries them.
      *
      * @param progress The player's progress to save
      * @return CompletableFuture that completes when save is done
@@ -61,6 +65,16 @@ public interface Storage {
      */
     CompletableFuture<Void> updateCollectionStatus(UUID playerId, String collectionId, boolean complete, boolean rewardClaimed);
 
+    /**
+     * Write coalesced item and status updates for several players in one transaction.
+     * Unlike the single-row methods, the future completes exceptionally if the
+     * transaction fails, so the caller can retry the batch.
+     *
+     * @param batch Pending writes, one entry per player
+     * @return CompletableFuture that completes when the transaction commits
+     */
+    CompletableFuture<Void> saveBatch(java.util.Collection<PlayerWrites> batch);
+
     // Collectible Operations
 
     /**
@@ -79,6 +93,16 @@ public interface Storage {
      */
     CompletableFuture<Void> removeCollectible(UUID collectibleId);
 
+    /**
+     * Apply queued collectible saves, removals and clears in one transaction.
+     * Clears run first, then saves and removals. Unlike the single-row methods, the
+     * future completes exceptionally if the transaction fails, so the caller can retry.
+     *
+     * @param batch Coalesced collectible writes
+     * @return CompletableFuture that completes when the transaction commits
+     */
+    CompletableFuture<Void> saveCollectibleBatch(CollectibleWrites batch);
+
     /**
      * Load all active collectibles.
      *
@@ -96,6 +120,24 @@ public interface Storage {
      */
     CompletableFuture<List<Collectible>> loadCollectiblesInChunk(String worldName, int chunkX, int chunkZ);
 
+    /**
+     * Load collectibles in many chunks of one world, in as few queries as possible.
+     *
+     * @param worldName The world name
+     * @param chunkKeys Chunk keys, packed with {@link com.blockworlds.collections.util.ChunkIndex#chunkKey}
+     * @return CompletableFuture containing collectibles in any of the chunks.
+     *         Completes exceptionally if they could not be read, so the chunks can be fetched again
+     */
+    CompletableFuture<List<Collectible>> loadCollectiblesInChunks(String worldName, java.util.Collection<Long> chunkKeys);
+
+    /**
+     * Count stored collectibles per zone, without loading them.
+     *
+     * @param spawnedSince Only count collectibles spawned at or after this time (epoch millis)
+     * @return CompletableFuture containing the count per zone ID
+     */
+    CompletableFuture<java.util.Map<String, Integer>> countCollectiblesByZone(long spawnedSince);
+
     /**
      * Clear all collectibles from the database.
      *
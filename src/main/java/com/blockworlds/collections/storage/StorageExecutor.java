@@ -0,0 +1,117 @@
+package com.blockworlds.collections.storage;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Fixed-size executor with a bounded queue for blocking storage work, so JDBC calls
+ * never run on the common ForkJoinPool. Work submitted while the queue is full fails
+ * its future instead of blocking the caller, and is counted as rejected.
+ */
+public class StorageExecutor {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param name           Thread name prefix
+     * @param threads        Number of worker threads
+     * @param queueCapacity  Maximum queued tasks
+     * @param virtualThreads Run workers on virtual threads
+     */
+    public StorageExecutor(String name, int threads, int queueCapacity, boolean virtualThreads) {
+        this.name = name;
+        int size = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                threadFactory(name, virtualThreads),
+                (task, pool) -> {
+                    rejected.incrementAndGet();
+                    throw new RejectedExecutionException(name + " queue is full");
+                });
+    }
+
+    private static ThreadFactory threadFactory(String name, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(name + "-", 0).factory();
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Run work on this executor. The future fails if the queue is full or the executor is shut down.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Run work on this executor. The future fails if the queue is full or the executor is shut down.
+     */
+    public CompletableFuture<Void> run(Runnable work) {
+        try {
+            return CompletableFuture.runAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Stop accepting work and wait for queued work to finish.
+     *
+     * @return true if everything finished within the timeout
+     */
+    public boolean shutdown(long timeout, TimeUnit unit, Logger logger) {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeout, unit)) {
+                return true;
+            }
+            logger.warning("Timed out waiting for " + executor.getQueue().size() + " queued " + name + " tasks");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        return false;
+    }
+
+    /**
+     * Number of tasks waiting to run.
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Number of tasks currently running.
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Number of tasks rejected because the queue was full or the executor had shut down.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+}
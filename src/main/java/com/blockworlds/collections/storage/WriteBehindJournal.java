@@ -0,0 +1,280 @@
+package com.blockworlds.collections.storage;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Write-behind queue for player progress writes.
+ *
+ * Mutations are coalesced per player and flushed in a single transaction on a fixed
+ * interval, or early once the queue holds enough rows. Flushes run one at a time in
+ * the order they were requested, so a later status never lands before an earlier one.
+ * A failed flush puts its writes back in the queue for the next attempt.
+ */
+public class WriteBehindJournal {
+
+    private final Plugin plugin;
+    private final Storage storage;
+    private final Map<UUID, PlayerWrites> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean thresholdFlushQueued = new AtomicBoolean();
+
+    private ScheduledTask task;
+    private int flushThreshold;
+    private volatile boolean running;
+
+    // Flushes are chained so they never overlap. Never handed out; callers get dependent copies
+    private CompletableFuture<Void> flushChain = CompletableFuture.completedFuture(null);
+
+    // Metrics
+    private volatile long lastFlushMillis;
+    private volatile int lastFlushRows;
+    private volatile long flushCount;
+
+    public WriteBehindJournal(Plugin plugin, Storage storage) {
+        this.plugin = plugin;
+        this.storage = storage;
+    }
+
+    /**
+     * Start periodic flushing. Until started, every write is flushed immediately.
+     *
+     * @param intervalMs     Time between flushes
+     * @param flushThreshold Queued rows that trigger an early flush
+     */
+    public void start(long intervalMs, int flushThreshold) {
+        stop();
+        this.flushThreshold = Math.max(1, flushThreshold);
+        if (intervalMs <= 0) {
+            return; // Write-through
+        }
+
+        running = true;
+        task = Bukkit.getAsyncScheduler().runAtFixedRate(plugin, scheduledTask -> flush(),
+                intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop periodic flushing. Queued writes stay queued until the next flush.
+     */
+    public void stop() {
+        running = false;
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Queue a collected item.
+     */
+    public void recordItem(UUID playerId, String collectionId, String itemId) {
+        pending.compute(playerId, (id, writes) -> {
+            if (writes == null) writes = new PlayerWrites(id);
+            if (writes.addItem(collectionId, itemId)) depth.incrementAndGet();
+            return writes;
+        });
+        afterRecord();
+    }
+
+    /**
+     * Queue a collection status, replacing any queued status for the same collection.
+     */
+    public void recordStatus(UUID playerId, String collectionId, PlayerWrites.CollectionStatus status) {
+        pending.compute(playerId, (id, writes) -> {
+            if (writes == null) writes = new PlayerWrites(id);
+            if (writes.setStatus(collectionId, status)) depth.incrementAndGet();
+            return writes;
+        });
+        afterRecord();
+    }
+
+    private void afterRecord() {
+        if (!running) {
+            flush();
+        } else if (depth.get() >= flushThreshold && thresholdFlushQueued.compareAndSet(false, true)) {
+            // One early flush at a time; it drains whatever has piled up by the time it runs
+            flush().whenComplete((ignored, throwable) -> thresholdFlushQueued.set(false));
+        }
+    }
+
+    /**
+     * Flush every queued write.
+     *
+     * @return CompletableFuture that completes once the flush has been attempted
+     */
+    public CompletableFuture<Void> flush() {
+        return enqueueFlush(() -> {
+            List<PlayerWrites> batch = new ArrayList<>();
+            for (UUID playerId : pending.keySet()) {
+                PlayerWrites writes = drain(playerId);
+                if (writes != null) batch.add(writes);
+            }
+            return batch;
+        });
+    }
+
+    /**
+     * Flush one player's queued writes (on quit).
+     *
+     * @return CompletableFuture that completes once the flush has been attempted
+     */
+    public CompletableFuture<Void> flushPlayer(UUID playerId) {
+        return enqueueFlush(() -> {
+            PlayerWrites writes = drain(playerId);
+            return writes != null ? List.of(writes) : List.of();
+        });
+    }
+
+    /**
+     * Drop a player's queued writes (their progress was reset).
+     */
+    public void discard(UUID playerId) {
+        drain(playerId);
+    }
+
+    /**
+     * Run a storage operation once in-flight flushes are done, holding back later
+     * flushes until it finishes. Used for resets, so an older flush can't undo them.
+     *
+     * @return CompletableFuture with the operation's own result; it fails if the operation does
+     */
+    public synchronized CompletableFuture<Void> runAfterFlushes(Supplier<CompletableFuture<Void>> operation) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        flushChain = flushChain.thenCompose(ignored -> {
+            CompletableFuture<Void> run;
+            try {
+                run = operation.get();
+            } catch (RuntimeException e) {
+                run = CompletableFuture.failedFuture(e);
+            }
+            // The chain only waits for the outcome; a failure is the caller's to report
+            return run.orTimeout(30, TimeUnit.SECONDS)
+                    .whenComplete((ignoredResult, throwable) -> {
+                        if (throwable != null) {
+                            result.completeExceptionally(throwable);
+                        } else {
+                            result.complete(null);
+                        }
+                    })
+                    .exceptionally(throwable -> null);
+        });
+        return result;
+    }
+
+    /**
+     * Drop a player's queued writes for one collection (it was reset).
+     */
+    public void discard(UUID playerId, String collectionId) {
+        pending.computeIfPresent(playerId, (id, writes) -> {
+            int before = writes.size();
+            writes.removeCollection(collectionId);
+            depth.addAndGet(writes.size() - before);
+            return writes.isEmpty() ? null : writes;
+        });
+    }
+
+    /**
+     * Chain a flush after any in-flight one. The batch is drained when the flush starts,
+     * so writes queued while waiting are included.
+     */
+    private synchronized CompletableFuture<Void> enqueueFlush(Supplier<List<PlayerWrites>> drainer) {
+        flushChain = flushChain.thenCompose(ignored -> runFlush(drainer.get()));
+        // Callers get a copy, so a timeout or cancel on it can't break the chain for later flushes
+        return flushChain.copy();
+    }
+
+    private PlayerWrites drain(UUID playerId) {
+        PlayerWrites writes = pending.remove(playerId);
+        if (writes != null) {
+            depth.addAndGet(-writes.size());
+        }
+        return writes;
+    }
+
+    private CompletableFuture<Void> runFlush(List<PlayerWrites> batch) {
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long start = System.nanoTime();
+        int rows = batch.stream().mapToInt(PlayerWrites::size).sum();
+        return storage.saveBatch(batch)
+                .orTimeout(30, TimeUnit.SECONDS)
+                .handle((ignored, throwable) -> {
+                    lastFlushMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    lastFlushRows = rows;
+                    flushCount++;
+
+                    if (throwable != null) {
+                        plugin.getLogger().log(Level.WARNING,
+                                "Failed to flush " + rows + " queued progress writes, will retry", throwable);
+                        requeue(batch);
+                    }
+                    return null;
+                });
+    }
+
+    private void requeue(List<PlayerWrites> batch) {
+        for (PlayerWrites failed : batch) {
+            pending.compute(failed.getPlayerId(), (id, writes) -> {
+                int before = writes != null ? writes.size() : 0;
+                if (writes == null) {
+                    writes = failed;
+                } else {
+                    writes.absorbOlder(failed);
+                }
+                depth.addAndGet(writes.size() - before);
+                return writes;
+            });
+        }
+    }
+
+    /**
+     * Number of queued rows waiting to be flushed.
+     */
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Duration of the most recent flush, in milliseconds.
+     */
+    public long getLastFlushMillis() {
+        return lastFlushMillis;
+    }
+
+    /**
+     * Rows written by the most recent flush.
+     */
+    public int getLastFlushRows() {
+        return lastFlushRows;
+    }
+
+    /**
+     * Number of flushes attempted since startup.
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Check if periodic flushing is on.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -5,18 +5,27 @@ import com.blockworlds.collections.manager.GoggleManager;
 import com.blockworlds.collections.manager.SpawnManager;
 import com.blockworlds.collections.model.Collectible;
 import com.blockworlds.collections.model.CollectibleTier;
+import com.blockworlds.collections.util.ChunkIndex;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.util.Vector;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Task that displays action bar prompts when players are looking at collectibles.
  * Checks if players are within range and looking at a collectible,
- * then sends a prompt to right-click to collect.
+ * then sends a prompt to click to collect.
+ *
+ * Only the chunks around each player are searched, players who have not moved or
+ * turned skip the search between periodic rechecks, and the prompt is only resent
+ * when the target changes or the action bar is about to fade.
  */
 public class ActionBarPromptTask {
 
@@ -24,23 +33,45 @@ public class ActionBarPromptTask {
     private static final double MAX_DISTANCE_SQUARED = MAX_DISTANCE * MAX_DISTANCE;
     private static final double LOOK_THRESHOLD = 0.95; // ~18 degree cone
 
+    private static final long INTERVAL_TICKS = 5L;
+    private static final long RESEND_TICKS = 40L; // Action bar fades after ~60 ticks
+    private static final double MOVE_THRESHOLD_SQUARED = 0.05 * 0.05;
+    private static final float ROTATE_THRESHOLD = 0.5f;
+
     private final Collections plugin;
     private final SpawnManager spawnManager;
+    private final Map<CollectibleTier, Component> prompts = new EnumMap<>(CollectibleTier.class);
+    private final Map<UUID, PromptState> states = new ConcurrentHashMap<>();
+    private final Location scratchLocation = new Location(null, 0, 0, 0);
     private ScheduledTask task;
+    private long tick;
 
     public ActionBarPromptTask(Collections plugin) {
         this.plugin = plugin;
         this.spawnManager = plugin.getSpawnManager();
+
+        // Prompts never change, build them once. Virtual collectibles also take a left-click,
+        // since an empty hand can't right-click air
+        String action = spawnManager.isVirtual() ? "Click to collect" : "Right-click to collect";
+        for (CollectibleTier tier : CollectibleTier.values()) {
+            prompts.put(tier, Component.text(action, tier.getColor())
+                    .append(Component.text(" [", NamedTextColor.GRAY))
+                    .append(Component.text(tier.getDisplayName(), tier.getColor()))
+                    .append(Component.text("]", NamedTextColor.GRAY)));
+        }
     }
 
     /**
      * Start the action bar prompt task.
      */
     public void start() {
+        states.clear();
+        tick = 0;
+
         // Run every 5 ticks (0.25 seconds) for responsive feedback
         task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduledTask -> {
             checkPlayers();
-        }, 20L, 5L);
+        }, 20L, INTERVAL_TICKS);
     }
 
     /**
@@ -53,48 +84,118 @@ public class ActionBarPromptTask {
         }
     }
 
+    /**
+     * Forget prompt state for a player (on quit).
+     */
+    public void removePlayer(UUID playerId) {
+        states.remove(playerId);
+    }
+
     /**
      * Check all online players for collectible focus.
      */
     private void checkPlayers() {
+        tick += INTERVAL_TICKS;
+
+        // Nobody online - nothing to prompt
+        if (!plugin.getWorldActivityTracker().isServerActive()) return;
+
         for (Player player : Bukkit.getOnlinePlayers()) {
-            Collectible target = findLookedAtCollectible(player);
-            if (target != null && canPlayerSee(player, target)) {
-                sendPrompt(player, target.tier());
+            PromptState state = states.computeIfAbsent(player.getUniqueId(), id -> new PromptState());
+            Location loc = player.getLocation(scratchLocation);
+            double eyeY = loc.getY() + player.getEyeHeight();
+
+            Collectible target;
+            // Full search on movement, and periodically to pick up new spawns and goggle changes
+            if (state.hasMoved(loc, eyeY) || tick - state.lastCheckedTick >= RESEND_TICKS) {
+                state.remember(loc, eyeY);
+                state.lastCheckedTick = tick;
+                target = findLookedAtCollectible(player, loc, eyeY);
+            } else {
+                // Same view as last check - just make sure the target is still there
+                target = state.targetId != null ? spawnManager.getCollectible(state.targetId) : null;
+                if (target != null && !target.spawned()) {
+                    target = null;
+                }
+            }
+
+            if (target == null) {
+                state.targetId = null;
+                continue;
+            }
+
+            boolean changed = !target.id().equals(state.targetId);
+            if (changed || tick - state.lastSentTick >= RESEND_TICKS) {
+                state.targetId = target.id();
+                state.lastSentTick = tick;
+                player.sendActionBar(prompts.get(target.tier()));
             }
         }
     }
 
     /**
      * Find the collectible the player is looking at, if any.
+     * Only collectibles in the chunks within reach of the player's eye are considered.
      *
      * @param player The player to check
+     * @param loc    The player's current location
+     * @param eyeY   The player's eye height in world coordinates
      * @return The collectible being looked at, or null if none
      */
-    private Collectible findLookedAtCollectible(Player player) {
-        Location eye = player.getEyeLocation();
-        Vector direction = eye.getDirection().normalize();
-
+    private Collectible findLookedAtCollectible(Player player, Location loc, double eyeY) {
+        if (loc.getWorld() == null) return null;
+        String worldName = loc.getWorld().getName();
+
+        double eyeX = loc.getX();
+        double eyeZ = loc.getZ();
+
+        // Look direction from yaw/pitch, same as Location#getDirection
+        double yaw = Math.toRadians(loc.getYaw());
+        double pitch = Math.toRadians(loc.getPitch());
+        double horizontal = Math.cos(pitch);
+        double dirX = -horizontal * Math.sin(yaw);
+        double dirY = -Math.sin(pitch);
+        double dirZ = horizontal * Math.cos(yaw);
+
+        int visibleBits = getVisibilityMask(player);
+        int minChunkX = ChunkIndex.toChunk(eyeX - MAX_DISTANCE);
+        int maxChunkX = ChunkIndex.toChunk(eyeX + MAX_DISTANCE);
+        int minChunkZ = ChunkIndex.toChunk(eyeZ - MAX_DISTANCE);
+        int maxChunkZ = ChunkIndex.toChunk(eyeZ + MAX_DISTANCE);
+
+        ChunkIndex chunkIndex = spawnManager.getChunkIndex();
         Collectible closest = null;
         double closestDistance = Double.MAX_VALUE;
 
-        for (Collectible collectible : spawnManager.getActiveCollectibles()) {
-            if (!collectible.spawned()) continue;
-
-            Location loc = collectible.location();
-            if (loc.getWorld() == null || !loc.getWorld().equals(player.getWorld())) continue;
-
-            // Check distance
-            double distanceSquared = eye.distanceSquared(loc);
-            if (distanceSquared > MAX_DISTANCE_SQUARED) continue;
-
-            // Check if looking at it
-            Vector toTarget = loc.toVector().subtract(eye.toVector()).normalize();
-            double dot = direction.dot(toTarget);
-
-            if (dot > LOOK_THRESHOLD && distanceSquared < closestDistance) {
-                closest = collectible;
-                closestDistance = distanceSquared;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                if (!chunkIndex.isOccupied(worldName, chunkX, chunkZ)) continue;
+
+                for (UUID id : chunkIndex.get(worldName, chunkX, chunkZ)) {
+                    Collectible collectible = spawnManager.getCollectible(id);
+                    if (collectible == null || !collectible.spawned()) continue;
+
+                    // Check goggle visibility
+                    if ((visibleBits & collectible.tier().getBit()) == 0) continue;
+
+                    // Check distance
+                    Location target = collectible.location();
+                    double dx = target.getX() - eyeX;
+                    double dy = target.getY() - eyeY;
+                    double dz = target.getZ() - eyeZ;
+                    double distanceSquared = dx * dx + dy * dy + dz * dz;
+                    if (distanceSquared > MAX_DISTANCE_SQUARED || distanceSquared >= closestDistance) continue;
+
+                    // Check if looking at it
+                    double distance = Math.sqrt(distanceSquared);
+                    if (distance == 0) continue;
+                    double dot = (dx * dirX + dy * dirY + dz * dirZ) / distance;
+
+                    if (dot > LOOK_THRESHOLD) {
+                        closest = collectible;
+                        closestDistance = distanceSquared;
+                    }
+                }
             }
         }
 
@@ -102,26 +203,51 @@ public class ActionBarPromptTask {
     }
 
     /**
-     * Check if a player can see a collectible based on goggles.
+     * Get the tiers a player can see as a bitmask.
      */
-    private boolean canPlayerSee(Player player, Collectible collectible) {
+    private int getVisibilityMask(Player player) {
         GoggleManager goggleManager = plugin.getGoggleManager();
         if (goggleManager == null) {
             // Fallback: only show COMMON tier if GoggleManager not initialized
-            return collectible.tier() == CollectibleTier.COMMON;
+            return CollectibleTier.COMMON.getBit();
         }
-        return goggleManager.canPlayerSeeCollectible(player, collectible);
+        return goggleManager.getVisibilityMask(player);
     }
 
     /**
-     * Send the action bar prompt to a player.
+     * What a player was looking at on the previous check.
      */
-    private void sendPrompt(Player player, CollectibleTier tier) {
-        Component message = Component.text("Right-click to collect", tier.getColor())
-                .append(Component.text(" [", NamedTextColor.GRAY))
-                .append(Component.text(tier.getDisplayName(), tier.getColor()))
-                .append(Component.text("]", NamedTextColor.GRAY));
+    private static final class PromptState {
+        private String worldName;
+        private double x;
+        private double eyeY;
+        private double z;
+        private float yaw;
+        private float pitch;
+        private UUID targetId;
+        private long lastSentTick = Long.MIN_VALUE / 2;
+        private long lastCheckedTick;
+
+        boolean hasMoved(Location loc, double currentEyeY) {
+            if (worldName == null || loc.getWorld() == null
+                    || !worldName.equals(loc.getWorld().getName())) {
+                return true;
+            }
+            double dx = loc.getX() - x;
+            double dy = currentEyeY - eyeY;
+            double dz = loc.getZ() - z;
+            return dx * dx + dy * dy + dz * dz > MOVE_THRESHOLD_SQUARED
+                    || Math.abs(loc.getYaw() - yaw) > ROTATE_THRESHOLD
+                    || Math.abs(loc.getPitch() - pitch) > ROTATE_THRESHOLD;
+        }
 
-        player.sendActionBar(message);
+        void remember(Location loc, double currentEyeY) {
+            worldName = loc.getWorld() != null ? loc.getWorld().getName() : null;
+            x = loc.getX();
+            eyeY = currentEyeY;
+            z = loc.getZ();
+            yaw = loc.getYaw();
+            pitch = loc.getPitch();
+        }
     }
 }
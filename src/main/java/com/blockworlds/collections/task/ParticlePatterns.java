@@ -0,0 +1,81 @@
+package com.blockworlds.collections.task;
+
+/**
+ * Precomputed offset tables for the tier particle patterns.
+ * Animations are quantized into a fixed number of phases so the particle
+ * hot path only indexes arrays instead of doing trigonometry.
+ */
+final class ParticlePatterns {
+
+    /**
+     * Number of animation phases per cycle.
+     */
+    static final int PHASES = 72;
+
+    /**
+     * Points on the UNCOMMON spiral.
+     */
+    static final int SPIRAL_POINTS = 3;
+
+    // Bobbing: 0.5 + sin(t * 2) * 0.1, one cycle every PI seconds
+    private static final long BOB_PERIOD_MS = Math.round(Math.PI * 1000);
+    private static final double[] BOB_Y = new double[PHASES];
+
+    // Spiral: one degree every 50ms, 120 degrees between points, radius 0.3
+    private static final long SPIRAL_PERIOD_MS = 360 * 50;
+    private static final double SPIRAL_RADIUS = 0.3;
+    private static final double[][] SPIRAL_X = new double[PHASES][SPIRAL_POINTS];
+    private static final double[][] SPIRAL_Z = new double[PHASES][SPIRAL_POINTS];
+
+    static {
+        for (int phase = 0; phase < PHASES; phase++) {
+            double fraction = (double) phase / PHASES;
+            BOB_Y[phase] = 0.5 + Math.sin(fraction * 2 * Math.PI) * 0.1;
+
+            for (int i = 0; i < SPIRAL_POINTS; i++) {
+                double angle = fraction * 2 * Math.PI + Math.toRadians(i * 120);
+                SPIRAL_X[phase][i] = Math.cos(angle) * SPIRAL_RADIUS;
+                SPIRAL_Z[phase][i] = Math.sin(angle) * SPIRAL_RADIUS;
+            }
+        }
+    }
+
+    private ParticlePatterns() {
+        // Static tables only
+    }
+
+    /**
+     * Get the bobbing animation phase for a timestamp.
+     */
+    static int bobPhase(long millis) {
+        return (int) ((millis % BOB_PERIOD_MS) * PHASES / BOB_PERIOD_MS);
+    }
+
+    /**
+     * Get the spiral animation phase for a timestamp.
+     */
+    static int spiralPhase(long millis) {
+        return (int) ((millis % SPIRAL_PERIOD_MS) * PHASES / SPIRAL_PERIOD_MS);
+    }
+
+    /**
+     * Vertical offset of the pattern center above the collectible.
+     */
+    static double bobY(int phase) {
+        return BOB_Y[phase];
+    }
+
+    /**
+     * X offsets of the spiral points for a phase. Do not modify.
+     */
+    static double[] spiralX(int phase) {
+        return SPIRAL_X[phase];
+    }
+
+    /**
+     * Z offsets of the spiral points for a phase. Do not modify.
+     */
+    static double[] spiralZ(int phase) {
+        return SPIRAL_Z[phase];
+    }
+}
@@ -1,6 +1,7 @@
 package com.blockworlds.collections.task;
 
 import com.blockworlds.collections.Collections;
+import com.blockworlds.collections.config.ConfigManager;
 import com.blockworlds.collections.manager.GoggleManager;
 import com.blockworlds.collections.manager.SpawnManager;
 import com.blockworlds.collections.model.Collectible;
@@ -8,15 +9,46 @@ import com.blockworlds.collections.model.CollectibleTier;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Task that spawns tier-appropriate particles around collectibles.
  * Particles are only sent to players who can see the collectible.
+ *
+ * Particle detail is reduced with distance (level of detail), each player has a
+ * per-second packet budget, and the whole task sheds load when the server's MSPT
+ * or this task's own packet rate crosses the configured thresholds.
  */
 public class ParticleTask {
 
+    /**
+     * Load shedding levels, from full detail to the cheapest fallback.
+     */
+    public enum DegradationLevel {
+        /** Full detail for all tiers. */
+        NONE,
+        /** Every collectible drops one LOD band. */
+        REDUCED,
+        /** COMMON tier only, emitted every Nth cycle. */
+        MINIMAL
+    }
+
+    /**
+     * Distance bands a viewer can fall into.
+     */
+    private enum DetailBand {
+        FULL,
+        REDUCED,
+        MINIMAL
+    }
+
     private final Collections plugin;
     private final SpawnManager spawnManager;
     private ScheduledTask task;
@@ -24,6 +56,26 @@ public class ParticleTask {
     // Configuration
     private int particleDistance;
     private int particleCount;
+    private int intervalTicks;
+    private double fullDetailDistanceSquared;
+    private double reducedDetailDistanceSquared;
+    private int maxPacketsPerPlayerPerSecond;
+    private boolean loadSheddingEnabled;
+    private double msptReduced;
+    private double msptMinimal;
+    private int packetRateReduced;
+    private int packetRateMinimal;
+    private int minimalEveryNthCycle;
+
+    // Runtime state (only touched from the global region thread)
+    private final Map<UUID, int[]> packetsThisWindow = new HashMap<>();
+    private final Map<UUID, Viewers> viewersByWorld = new HashMap<>();
+    private final Location scratchLocation = new Location(null, 0, 0, 0);
+    private long cycle;
+    private int cyclesPerWindow;
+    private int packetsInWindow;
+    private int lastPacketRate;
+    private volatile DegradationLevel degradationLevel = DegradationLevel.NONE;
 
     public ParticleTask(Collections plugin) {
         this.plugin = plugin;
@@ -35,10 +87,30 @@ public class ParticleTask {
      */
     public void start() {
         // Load config
-        particleDistance = plugin.getConfigManager().getParticleDistanceBlocks();
-        int intervalTicks = plugin.getConfigManager().getParticleIntervalTicks();
+        ConfigManager config = plugin.getConfigManager();
+        particleDistance = config.getParticleDistanceBlocks();
+        intervalTicks = Math.max(1, config.getParticleIntervalTicks());
         particleCount = 3; // Particles per spawn
 
+        double fullDistance = Math.min(config.getParticleFullDetailDistance(), particleDistance);
+        double reducedDistance = Math.min(config.getParticleReducedDetailDistance(), particleDistance);
+        fullDetailDistanceSquared = fullDistance * fullDistance;
+        reducedDetailDistanceSquared = reducedDistance * reducedDistance;
+        maxPacketsPerPlayerPerSecond = config.getParticleMaxPacketsPerPlayerPerSecond();
+        loadSheddingEnabled = config.isParticleLoadSheddingEnabled();
+        msptReduced = config.getParticleSheddingMsptReduced();
+        msptMinimal = config.getParticleSheddingMsptMinimal();
+        packetRateReduced = config.getParticleSheddingPacketRateReduced();
+        packetRateMinimal = config.getParticleSheddingPacketRateMinimal();
+        minimalEveryNthCycle = Math.max(1, config.getParticleMinimalEveryNthCycle());
+
+        cyclesPerWindow = Math.max(1, 20 / intervalTicks);
+        cycle = 0;
+        packetsInWindow = 0;
+        packetsThisWindow.clear();
+        viewersByWorld.clear();
+        degradationLevel = DegradationLevel.NONE;
+
         // Use async scheduler for particle calculations, but spawn on main thread per-region
         task = Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduledTask -> {
             spawnParticles();
@@ -59,73 +131,255 @@ public class ParticleTask {
      * Spawn particles for all active collectibles.
      */
     private void spawnParticles() {
-        for (Collectible collectible : spawnManager.getActiveCollectibles()) {
-            if (!collectible.spawned()) continue;
+        cycle++;
+        if (cycle % cyclesPerWindow == 0) {
+            endWindow();
+        }
 
-            Location loc = collectible.location();
-            if (loc.getWorld() == null) continue;
+        DegradationLevel level = degradationLevel;
+        if (level == DegradationLevel.MINIMAL && cycle % minimalEveryNthCycle != 0) {
+            return;
+        }
 
-            CollectibleTier tier = collectible.tier();
-            Particle particle = tier.getParticle();
+        // Nobody online - nothing to render
+        if (!plugin.getWorldActivityTracker().isServerActive()) {
+            return;
+        }
 
-            // Get particle offset for a floating effect
-            double time = System.currentTimeMillis() / 1000.0;
-            double yOffset = 0.5 + Math.sin(time * 2) * 0.1; // Gentle bobbing
+        snapshotViewers();
 
-            Location particleLoc = loc.clone().add(0, yOffset, 0);
+        // Animation phases are shared by every collectible this cycle
+        long now = System.currentTimeMillis();
+        double bobY = ParticlePatterns.bobY(ParticlePatterns.bobPhase(now));
+        int spiralPhase = ParticlePatterns.spiralPhase(now);
+        double maxDistanceSquared = (double) particleDistance * particleDistance;
 
-            // Send particles only to nearby players who can see this collectible
-            for (Player player : loc.getWorld().getPlayers()) {
-                if (player.getLocation().distanceSquared(loc) > particleDistance * particleDistance) {
-                    continue;
-                }
+        // Only worlds with viewers are visited, so idle worlds cost nothing
+        for (Viewers viewers : viewersByWorld.values()) {
+            if (viewers.size == 0) continue;
 
-                // Check goggle visibility
-                if (canPlayerSee(player, collectible)) {
-                    spawnParticleForPlayer(player, particleLoc, particle, tier);
-                }
+            // Walks the spatial index in place; no per-world list is built each cycle
+            spawnManager.forEachCollectibleInWorld(viewers.worldName, collectible -> {
+                if (!collectible.spawned()) return;
+
+                // Rendered by a display entity instead
+                if (spawnManager.hasDisplay(collectible.id())) return;
+
+                CollectibleTier tier = collectible.tier();
+                if (level == DegradationLevel.MINIMAL && tier != CollectibleTier.COMMON) return;
+
+                emitForViewers(collectible, viewers, level, bobY, spiralPhase, maxDistanceSquared);
+            });
+        }
+    }
+
+    /**
+     * Send a collectible's particles to the viewers in its world who can see it.
+     */
+    private void emitForViewers(Collectible collectible, Viewers viewers, DegradationLevel level,
+                                double bobY, int spiralPhase, double maxDistanceSquared) {
+        CollectibleTier tier = collectible.tier();
+        int tierBit = tier.getBit();
+        Particle particle = tier.getParticle();
+
+        // Pattern origin is computed once per collectible, not per viewer
+        Location loc = collectible.location();
+        double x = loc.getX();
+        double y = loc.getY();
+        double z = loc.getZ();
+        double originY = y + bobY;
+
+        // Send particles only to nearby players who can see this collectible
+        for (int i = 0; i < viewers.size; i++) {
+            // Check goggle visibility
+            if ((viewers.masks[i] & tierBit) == 0) continue;
+
+            double dx = viewers.x[i] - x;
+            double dy = viewers.y[i] - y;
+            double dz = viewers.z[i] - z;
+            double distanceSquared = dx * dx + dy * dy + dz * dz;
+            if (distanceSquared > maxDistanceSquared) {
+                continue;
+            }
+
+            DetailBand band = getDetailBand(distanceSquared, level);
+
+            // Far viewers only get every other cycle
+            if (band == DetailBand.MINIMAL && (cycle & 1) != 0) {
+                continue;
+            }
+
+            if (tryConsumeBudget(viewers.budgets[i], tier, band)) {
+                spawnParticleForPlayer(viewers.players[i], particle, tier, band, x, originY, z, spiralPhase);
             }
         }
     }
 
     /**
-     * Check if a player can see a collectible based on goggles.
+     * Capture position, visibility mask and packet budget of every player once per cycle.
      */
-    private boolean canPlayerSee(Player player, Collectible collectible) {
+    private void snapshotViewers() {
+        for (Viewers viewers : viewersByWorld.values()) {
+            viewers.clear();
+        }
+
         GoggleManager goggleManager = plugin.getGoggleManager();
-        if (goggleManager == null) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            World world = player.getWorld();
+            Viewers viewers = viewersByWorld.computeIfAbsent(world.getUID(), id -> new Viewers(world.getName()));
+
             // Fallback: only show COMMON tier if GoggleManager not initialized
-            return collectible.tier() == CollectibleTier.COMMON;
+            int mask = goggleManager != null
+                    ? goggleManager.getVisibilityMask(player)
+                    : CollectibleTier.COMMON.getBit();
+            int[] budget = packetsThisWindow.computeIfAbsent(player.getUniqueId(), id -> new int[1]);
+
+            viewers.add(player, player.getLocation(scratchLocation), mask, budget);
+        }
+    }
+
+    /**
+     * Pick the detail band for a viewer at the given distance, shifted down by the degradation level.
+     */
+    private DetailBand getDetailBand(double distanceSquared, DegradationLevel level) {
+        int band;
+        if (distanceSquared <= fullDetailDistanceSquared) {
+            band = 0;
+        } else if (distanceSquared <= reducedDetailDistanceSquared) {
+            band = 1;
+        } else {
+            band = 2;
+        }
+
+        if (level != DegradationLevel.NONE) {
+            band++;
+        }
+
+        return switch (band) {
+            case 0 -> DetailBand.FULL;
+            case 1 -> DetailBand.REDUCED;
+            default -> DetailBand.MINIMAL;
+        };
+    }
+
+    /**
+     * Charge a player's per-second packet budget for one pattern emission.
+     *
+     * @return true if the player still has budget for this emission
+     */
+    private boolean tryConsumeBudget(int[] sent, CollectibleTier tier, DetailBand band) {
+        int packets = getPacketCost(tier, band);
+        if (maxPacketsPerPlayerPerSecond > 0 && sent[0] + packets > maxPacketsPerPlayerPerSecond) {
+            return false;
+        }
+        sent[0] += packets;
+        packetsInWindow += packets;
+        return true;
+    }
+
+    /**
+     * Number of particle packets one pattern emission sends.
+     */
+    private int getPacketCost(CollectibleTier tier, DetailBand band) {
+        if (tier == CollectibleTier.UNCOMMON && band == DetailBand.FULL) {
+            return ParticlePatterns.SPIRAL_POINTS; // One packet per spiral point
         }
-        return goggleManager.canPlayerSeeCollectible(player, collectible);
+        return 1;
     }
 
     /**
-     * Spawn particles for a specific player.
+     * Close the current one-second window: record the packet rate and re-evaluate load shedding.
      */
-    private void spawnParticleForPlayer(Player player, Location location, Particle particle, CollectibleTier tier) {
+    private void endWindow() {
+        lastPacketRate = packetsInWindow;
+        packetsInWindow = 0;
+
+        // Drop budgets of players who went offline, reset the rest in place
+        packetsThisWindow.keySet().removeIf(id -> Bukkit.getPlayer(id) == null);
+        for (int[] sent : packetsThisWindow.values()) {
+            sent[0] = 0;
+        }
+
+        if (!loadSheddingEnabled) {
+            degradationLevel = DegradationLevel.NONE;
+            return;
+        }
+
+        double mspt = getAverageTickTime();
+        DegradationLevel target;
+        if ((msptMinimal > 0 && mspt >= msptMinimal)
+                || (packetRateMinimal > 0 && lastPacketRate >= packetRateMinimal)) {
+            target = DegradationLevel.MINIMAL;
+        } else if ((msptReduced > 0 && mspt >= msptReduced)
+                || (packetRateReduced > 0 && lastPacketRate >= packetRateReduced)) {
+            target = DegradationLevel.REDUCED;
+        } else {
+            target = DegradationLevel.NONE;
+        }
+
+        DegradationLevel current = degradationLevel;
+        if (target.ordinal() < current.ordinal()) {
+            // Recover one level per window so we don't flap between extremes
+            target = DegradationLevel.values()[current.ordinal() - 1];
+        }
+
+        if (target != current) {
+            degradationLevel = target;
+            if (plugin.getConfigManager().isDebugMode()) {
+                plugin.getLogger().info("Particle degradation level " + current + " -> " + target +
+                        " (mspt: " + String.format("%.1f", mspt) + ", packets/s: " + lastPacketRate + ")");
+            }
+        }
+    }
+
+    /**
+     * Get the server's average tick time, or 0 if the platform doesn't report it.
+     */
+    private double getAverageTickTime() {
+        try {
+            return Bukkit.getAverageTickTime();
+        } catch (UnsupportedOperationException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Spawn particles for a specific player around a precomputed origin.
+     */
+    private void spawnParticleForPlayer(Player player, Particle particle, CollectibleTier tier, DetailBand band,
+                                        double x, double y, double z, int spiralPhase) {
+        // Lower bands fall back to a single sparkle
+        if (band == DetailBand.MINIMAL) {
+            player.spawnParticle(particle, x, y, z, 1, 0.2, 0.2, 0.2, 0);
+            return;
+        }
+        int count = band == DetailBand.FULL ? particleCount : Math.max(1, particleCount / 2);
+
         // Different particle patterns based on tier
         switch (tier) {
             case COMMON -> {
                 // Simple sparkle effect
-                player.spawnParticle(particle, location, particleCount, 0.2, 0.2, 0.2, 0);
+                player.spawnParticle(particle, x, y, z, count, 0.2, 0.2, 0.2, 0);
             }
             case UNCOMMON -> {
+                if (band != DetailBand.FULL) {
+                    player.spawnParticle(particle, x, y, z, count, 0.3, 0.1, 0.3, 0);
+                    return;
+                }
                 // Enchant spiral effect
-                for (int i = 0; i < particleCount; i++) {
-                    double angle = (System.currentTimeMillis() / 50.0 + i * 120) * Math.PI / 180;
-                    double x = Math.cos(angle) * 0.3;
-                    double z = Math.sin(angle) * 0.3;
-                    player.spawnParticle(particle, location.clone().add(x, 0, z), 1, 0, 0.1, 0, 0);
+                double[] offsetX = ParticlePatterns.spiralX(spiralPhase);
+                double[] offsetZ = ParticlePatterns.spiralZ(spiralPhase);
+                for (int i = 0; i < ParticlePatterns.SPIRAL_POINTS; i++) {
+                    player.spawnParticle(particle, x + offsetX[i], y, z + offsetZ[i], 1, 0, 0.1, 0, 0);
                 }
             }
             case RARE -> {
                 // Elegant rising particles
-                player.spawnParticle(particle, location, particleCount + 2, 0.15, 0.3, 0.15, 0.01);
+                player.spawnParticle(particle, x, y, z, count + 2, 0.15, 0.3, 0.15, 0.01);
             }
             case EVENT -> {
                 // Celebratory burst
-                player.spawnParticle(particle, location, particleCount + 3, 0.25, 0.25, 0.25, 0.02);
+                player.spawnParticle(particle, x, y, z, count + 3, 0.25, 0.25, 0.25, 0.02);
             }
         }
     }
@@ -134,17 +388,84 @@ public class ParticleTask {
      * Spawn a collection effect when a collectible is collected.
      */
     public void spawnCollectionEffect(Location location, CollectibleTier tier) {
-        if (location.getWorld() == null) return;
+        World world = location.getWorld();
+        if (world == null) return;
 
         // Burst of particles when collected
         Particle particle = tier.getParticle();
+        double x = location.getX();
+        double y = location.getY() + 0.5;
+        double z = location.getZ();
+        double maxDistanceSquared = (double) particleDistance * particleDistance;
 
         // Send to all nearby players
-        for (Player player : location.getWorld().getPlayers()) {
-            if (player.getLocation().distanceSquared(location) <= particleDistance * particleDistance) {
-                player.spawnParticle(particle, location.clone().add(0, 0.5, 0),
-                        15, 0.3, 0.3, 0.3, 0.05);
+        for (Player player : world.getPlayers()) {
+            if (player.getLocation().distanceSquared(location) <= maxDistanceSquared) {
+                player.spawnParticle(particle, x, y, z, 15, 0.3, 0.3, 0.3, 0.05);
+            }
+        }
+    }
+
+    /**
+     * Get the current load shedding level.
+     *
+     * @return the active degradation level
+     */
+    public DegradationLevel getDegradationLevel() {
+        return degradationLevel;
+    }
+
+    /**
+     * Get the number of particle packets sent during the last one-second window.
+     *
+     * @return packets per second
+     */
+    public int getLastPacketRate() {
+        return lastPacketRate;
+    }
+
+    /**
+     * Reusable per-world snapshot of the players that can receive particles this cycle.
+     * Arrays grow as needed and are reused across cycles so emission does not allocate.
+     */
+    private static final class Viewers {
+        private final String worldName;
+        private Player[] players = new Player[8];
+        private double[] x = new double[8];
+        private double[] y = new double[8];
+        private double[] z = new double[8];
+        private int[] masks = new int[8];
+        private int[][] budgets = new int[8][];
+        private int size;
+
+        Viewers(String worldName) {
+            this.worldName = worldName;
+        }
+
+        void add(Player player, Location location, int mask, int[] budget) {
+            if (size == players.length) {
+                int capacity = size * 2;
+                players = Arrays.copyOf(players, capacity);
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                z = Arrays.copyOf(z, capacity);
+                masks = Arrays.copyOf(masks, capacity);
+                budgets = Arrays.copyOf(budgets, capacity);
             }
+            players[size] = player;
+            x[size] = location.getX();
+            y[size] = location.getY();
+            z[size] = location.getZ();
+            masks[size] = mask;
+            budgets[size] = budget;
+            size++;
+        }
+
+        void clear() {
+            // Don't hold on to players who may have logged out
+            Arrays.fill(players, 0, size, null);
+            Arrays.fill(budgets, 0, size, null);
+            size = 0;
         }
     }
 }
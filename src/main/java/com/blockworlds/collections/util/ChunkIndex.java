@@ -0,0 +1,130 @@
+package com.blockworlds.collections.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Spatial index of IDs bucketed by world and chunk.
+ * Used to answer "what is near this position" without scanning every tracked collectible.
+ * Safe to read and update from any thread.
+ */
+public final class ChunkIndex {
+
+    private final Map<String, Map<Long, Set<UUID>>> worlds = new ConcurrentHashMap<>();
+
+    /**
+     * Pack chunk coordinates into a single key.
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the chunk coordinate containing a block coordinate.
+     */
+    public static int toChunk(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> 4;
+    }
+
+    /**
+     * Add an ID to the chunk containing the given block coordinates.
+     */
+    public void addAtBlock(String world, double x, double z, UUID id) {
+        addAtChunk(world, toChunk(x), toChunk(z), id);
+    }
+
+    /**
+     * Add an ID to a chunk.
+     */
+    public void addAtChunk(String world, int chunkX, int chunkZ, UUID id) {
+        // Insert inside the map operation, so a concurrent remove can't drop the bucket in between
+        worlds.computeIfAbsent(world, w -> new ConcurrentHashMap<>())
+                .compute(chunkKey(chunkX, chunkZ), (k, ids) -> {
+                    if (ids == null) {
+                        ids = ConcurrentHashMap.newKeySet();
+                    }
+                    ids.add(id);
+                    return ids;
+                });
+    }
+
+    /**
+     * Remove an ID from the chunk containing the given block coordinates.
+     */
+    public void removeAtBlock(String world, double x, double z, UUID id) {
+        removeAtChunk(world, toChunk(x), toChunk(z), id);
+    }
+
+    /**
+     * Remove an ID from a chunk, dropping the bucket once it is empty.
+     */
+    public void removeAtChunk(String world, int chunkX, int chunkZ, UUID id) {
+        Map<Long, Set<UUID>> chunks = worlds.get(world);
+        if (chunks == null) return;
+
+        chunks.computeIfPresent(chunkKey(chunkX, chunkZ), (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * Get the IDs in a chunk. The returned set is a live read-only view.
+     *
+     * @return The IDs in the chunk, or an empty set if none
+     */
+    public Set<UUID> get(String world, int chunkX, int chunkZ) {
+        Map<Long, Set<UUID>> chunks = worlds.get(world);
+        if (chunks == null) return Collections.emptySet();
+
+        Set<UUID> ids = chunks.get(chunkKey(chunkX, chunkZ));
+        return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+    }
+
+    /**
+     * Run an action for every ID in a world, straight off the buckets without copying them.
+     */
+    public void forEachInWorld(String world, Consumer<UUID> action) {
+        Map<Long, Set<UUID>> chunks = worlds.get(world);
+        if (chunks == null) return;
+
+        for (Set<UUID> ids : chunks.values()) {
+            for (UUID id : ids) {
+                action.accept(id);
+            }
+        }
+    }
+
+    /**
+     * Check if a chunk holds any IDs.
+     */
+    public boolean isOccupied(String world, int chunkX, int chunkZ) {
+        Map<Long, Set<UUID>> chunks = worlds.get(world);
+        if (chunks == null) return false;
+
+        Set<UUID> ids = chunks.get(chunkKey(chunkX, chunkZ));
+        return ids != null && !ids.isEmpty();
+    }
+
+    /**
+     * Get the number of occupied chunks across all worlds.
+     */
+    public int getOccupiedChunkCount() {
+        int count = 0;
+        for (Map<Long, Set<UUID>> chunks : worlds.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+
+    /**
+     * Remove everything from the index.
+     */
+    public void clear() {
+        worlds.clear();
+    }
+}
@@ -0,0 +1,107 @@
+package com.blockworlds.collections.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable centered interval tree over inclusive integer ranges.
+ * A stabbing query visits only the entries whose range may contain the point,
+ * in O(log n + k) instead of scanning every entry.
+ *
+ * @param <T> Value type stored with each interval
+ */
+public final class IntervalTree<T> {
+
+    /**
+     * An inclusive range with its value.
+     */
+    public record Entry<T>(int min, int max, T value) {
+    }
+
+    private final Node<T> root;
+    private final int size;
+
+    public IntervalTree(List<Entry<T>> entries) {
+        this.root = build(new ArrayList<>(entries));
+        this.size = entries.size();
+    }
+
+    /**
+     * Collect the values of every interval containing a point.
+     *
+     * @param point  The point to look up
+     * @param result List the matching values are added to
+     */
+    public void query(int point, List<T> result) {
+        Node<T> node = root;
+        while (node != null) {
+            if (point < node.center) {
+                // Sorted by min ascending: stop at the first range starting after the point
+                for (Entry<T> entry : node.byMin) {
+                    if (entry.min() > point) break;
+                    result.add(entry.value());
+                }
+                node = node.left;
+            } else {
+                // Sorted by max descending: stop at the first range ending before the point
+                for (Entry<T> entry : node.byMax) {
+                    if (entry.max() < point) break;
+                    result.add(entry.value());
+                }
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Get the values of every interval containing a point.
+     */
+    public List<T> query(int point) {
+        List<T> result = new ArrayList<>();
+        query(point, result);
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static <T> Node<T> build(List<Entry<T>> entries) {
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        // Median of the midpoints keeps the tree balanced
+        long[] mids = new long[entries.size()];
+        for (int i = 0; i < mids.length; i++) {
+            mids[i] = ((long) entries.get(i).min() + entries.get(i).max()) >> 1;
+        }
+        Arrays.sort(mids);
+        int center = (int) mids[mids.length / 2];
+
+        List<Entry<T>> left = new ArrayList<>();
+        List<Entry<T>> right = new ArrayList<>();
+        List<Entry<T>> here = new ArrayList<>();
+        for (Entry<T> entry : entries) {
+            if (entry.max() < center) {
+                left.add(entry);
+            } else if (entry.min() > center) {
+                right.add(entry);
+            } else {
+                here.add(entry);
+            }
+        }
+
+        List<Entry<T>> byMin = new ArrayList<>(here);
+        byMin.sort(Comparator.comparingInt(Entry::min));
+        List<Entry<T>> byMax = new ArrayList<>(here);
+        byMax.sort(Comparator.comparingInt((Entry<T> e) -> e.max()).reversed());
+
+        return new Node<>(center, byMin, byMax, build(left), build(right));
+    }
+
+    private record Node<T>(int center, List<Entry<T>> byMin, List<Entry<T>> byMax, Node<T> left, Node<T> right) {
+    }
+}
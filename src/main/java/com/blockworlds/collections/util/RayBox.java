@@ -0,0 +1,66 @@
+package com.blockworlds.collections.util;
+
+/**
+ * Ray vs axis-aligned box intersection, used to click collectibles that have no entity.
+ * Works on primitive coordinates so it can run for every candidate without allocating.
+ */
+public final class RayBox {
+
+    /**
+     * Returned when the ray misses the box.
+     */
+    public static final double MISS = -1.0;
+
+    private RayBox() {
+        // Utility class
+    }
+
+    /**
+     * Find where a ray first enters a box (slab method).
+     * The direction does not need to be normalized; the result is in multiples of it.
+     *
+     * @return the distance along the ray to the entry point (0 if the origin is inside), or {@link #MISS}
+     */
+    public static double intersect(double originX, double originY, double originZ,
+                                   double dirX, double dirY, double dirZ,
+                                   double minX, double minY, double minZ,
+                                   double maxX, double maxY, double maxZ) {
+        double near = 0.0;
+        double far = Double.POSITIVE_INFINITY;
+
+        // X slab
+        if (dirX == 0) {
+            if (originX < minX || originX > maxX) return MISS;
+        } else {
+            double t1 = (minX - originX) / dirX;
+            double t2 = (maxX - originX) / dirX;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+            if (near > far) return MISS;
+        }
+
+        // Y slab
+        if (dirY == 0) {
+            if (originY < minY || originY > maxY) return MISS;
+        } else {
+            double t1 = (minY - originY) / dirY;
+            double t2 = (maxY - originY) / dirY;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+            if (near > far) return MISS;
+        }
+
+        // Z slab
+        if (dirZ == 0) {
+            if (originZ < minZ || originZ > maxZ) return MISS;
+        } else {
+            double t1 = (minZ - originZ) / dirZ;
+            double t2 = (maxZ - originZ) / dirZ;
+            near = Math.max(near, Math.min(t1, t2));
+            far = Math.min(far, Math.max(t1, t2));
+            if (near > far) return MISS;
+        }
+
+        return near;
+    }
+}
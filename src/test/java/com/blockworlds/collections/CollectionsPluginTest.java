@@ -1,15 +1,30 @@
 package com.blockworlds.collections;
 
+import com.blockworlds.collections.manager.PlayerDataManager;
+import com.blockworlds.collections.model.Collectible;
 import com.blockworlds.collections.model.Collection;
 import com.blockworlds.collections.model.CollectibleTier;
 import com.blockworlds.collections.model.PlayerProgress;
+import com.blockworlds.collections.storage.CollectibleWrites;
+import com.blockworlds.collections.storage.Storage;
+import com.blockworlds.collections.util.ChunkIndex;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.junit.jupiter.api.*;
 import org.mockbukkit.mockbukkit.MockBukkit;
 import org.mockbukkit.mockbukkit.ServerMock;
 import org.mockbukkit.mockbukkit.entity.PlayerMock;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -192,6 +207,71 @@ class CollectionsPluginTest {
         assertNotEquals(progress1.getPlayerId(), progress2.getPlayerId());
     }
 
+    @Test
+    @DisplayName("Prefetched progress is in the cache as soon as the player joins")
+    void testPrefetchPromotedOnJoin() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerProgress stored = new PlayerProgress(playerId);
+        stored.addItem("test_collection", "test_item");
+        plugin.getStorage().savePlayer(stored).get(5, TimeUnit.SECONDS);
+
+        plugin.getPlayerDataManager().prefetch(playerId).get(5, TimeUnit.SECONDS);
+        server.addPlayer(new PlayerMock(server, "Prefetched", playerId));
+
+        // No ticks: the join promotes the finished prefetch directly
+        PlayerProgress progress = plugin.getPlayerDataManager().getProgress(playerId);
+        assertNotNull(progress, "Prefetched progress should be cached on join");
+        assertTrue(progress.hasItem("test_collection", "test_item"));
+    }
+
+    @Test
+    @DisplayName("A failed prefetch falls back to loading from storage on join")
+    void testFailedPrefetchFallsBack() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerProgress stored = new PlayerProgress(playerId);
+        stored.addItem("test_collection", "test_item");
+        plugin.getStorage().savePlayer(stored).get(5, TimeUnit.SECONDS);
+
+        // Storage whose first player load fails, as if the read queue were full
+        Storage real = plugin.getStorage();
+        AtomicInteger loads = new AtomicInteger();
+        Storage flaky = (Storage) Proxy.newProxyInstance(Storage.class.getClassLoader(),
+                new Class<?>[]{Storage.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("loadPlayer") && loads.getAndIncrement() == 0) {
+                        return CompletableFuture.failedFuture(new RejectedExecutionException("read queue is full"));
+                    }
+                    try {
+                        return method.invoke(real, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        PlayerDataManager manager = new PlayerDataManager(plugin, flaky);
+
+        assertThrows(ExecutionException.class, () -> manager.prefetch(playerId).get(5, TimeUnit.SECONDS));
+        PlayerMock player = server.addPlayer(new PlayerMock(server, "FlakyPrefetch", playerId));
+
+        PlayerProgress progress = manager.loadPlayer(player).get(5, TimeUnit.SECONDS);
+        assertTrue(progress.hasItem("test_collection", "test_item"), "Fallback should load the stored progress");
+        assertEquals(2, loads.get());
+        assertSame(progress, manager.getProgress(playerId));
+    }
+
+    @Test
+    @DisplayName("withProgress runs with loaded progress; tryProgress never loads")
+    void testNonBlockingProgressAccess() {
+        assertTrue(plugin.getPlayerDataManager().tryProgress(UUID.randomUUID()).isEmpty());
+
+        PlayerMock player = server.addPlayer("NonBlocking");
+        AtomicReference<PlayerProgress> received = new AtomicReference<>();
+        plugin.getPlayerDataManager().withProgress(player, received::set);
+        server.getScheduler().performTicks(40);
+
+        assertNotNull(received.get(), "Action should run once progress is loaded");
+        assertEquals(player.getUniqueId(), received.get().getPlayerId());
+        assertSame(received.get(), plugin.getPlayerDataManager().tryProgress(player.getUniqueId()).orElse(null));
+    }
+
     // ==================== Storage Tests ====================
 
     @Test
@@ -218,6 +298,30 @@ class CollectionsPluginTest {
         assertTrue(loaded.hasItem("test_collection", "test_item"), "Should have the saved item");
     }
 
+    @Test
+    @DisplayName("Storage loads collectibles by chunk, including negative chunks")
+    void testStorageChunkQueries() throws Exception {
+        World world = server.addSimpleWorld("chunk_query_world");
+        Collectible inside = new Collectible(UUID.randomUUID(), null, "zone", "collection", "item",
+                new Location(world, -0.5, 64, 17.5), CollectibleTier.COMMON, System.currentTimeMillis(), false);
+        Collectible elsewhere = new Collectible(UUID.randomUUID(), null, "zone", "collection", "item",
+                new Location(world, 100, 64, 100), CollectibleTier.COMMON, System.currentTimeMillis(), false);
+
+        CollectibleWrites batch = new CollectibleWrites();
+        batch.save(inside);
+        batch.save(elsewhere);
+        plugin.getStorage().saveCollectibleBatch(batch).get(5, TimeUnit.SECONDS);
+
+        List<Collectible> single = plugin.getStorage()
+                .loadCollectiblesInChunk(world.getName(), -1, 1).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(inside.id()), single.stream().map(Collectible::id).toList());
+
+        List<Collectible> bulk = plugin.getStorage().loadCollectiblesInChunks(world.getName(),
+                List.of(ChunkIndex.chunkKey(-1, 1), ChunkIndex.chunkKey(6, 6), ChunkIndex.chunkKey(0, 0)))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(2, bulk.size());
+    }
+
     // ==================== Command Tests ====================
 
     @Test
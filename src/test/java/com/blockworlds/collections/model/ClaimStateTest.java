@@ -0,0 +1,103 @@
+package com.blockworlds.collections.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ClaimState transitions.
+ */
+class ClaimStateTest {
+
+    @Test
+    @DisplayName("Only the first claim succeeds")
+    void testSingleClaim() {
+        ClaimState claim = new ClaimState();
+
+        assertTrue(claim.isActive());
+        assertTrue(claim.tryClaim());
+        assertFalse(claim.tryClaim());
+        assertFalse(claim.isActive());
+    }
+
+    @Test
+    @DisplayName("Released claim can be claimed again")
+    void testRelease() {
+        ClaimState claim = new ClaimState();
+
+        assertTrue(claim.tryClaim());
+        claim.release();
+
+        assertTrue(claim.isActive());
+        assertTrue(claim.tryClaim());
+    }
+
+    @Test
+    @DisplayName("Completed claim is final")
+    void testComplete() {
+        ClaimState claim = new ClaimState();
+
+        assertTrue(claim.tryClaim());
+        claim.complete();
+        claim.release(); // No effect once collected
+
+        assertTrue(claim.isCollected());
+        assertFalse(claim.tryClaim());
+    }
+
+    @Test
+    @DisplayName("Retired collectible cannot be claimed")
+    void testRetire() {
+        ClaimState claim = new ClaimState();
+
+        claim.retire();
+
+        assertTrue(claim.isCollected());
+        assertFalse(claim.tryClaim());
+    }
+
+    @Test
+    @DisplayName("Exactly one thread wins a contended claim")
+    void testContendedClaim() throws InterruptedException {
+        ClaimState claim = new ClaimState();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (claim.tryClaim()) {
+                    winners.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, winners.get());
+    }
+
+    @Test
+    @DisplayName("Collectible copies share the claim state")
+    void testSharedAcrossCopies() {
+        Collectible collectible = new Collectible(null, null, "zone", "collection", "item",
+                null, CollectibleTier.COMMON, 0L, false);
+
+        Collectible respawned = collectible.withSpawned(true);
+        assertTrue(collectible.claim().tryClaim());
+
+        assertSame(collectible.claim(), respawned.claim());
+        assertFalse(respawned.claim().tryClaim());
+    }
+}
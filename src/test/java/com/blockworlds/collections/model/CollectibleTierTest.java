@@ -54,4 +54,15 @@ class CollectibleTierTest {
         assertTrue(CollectibleTier.EVENT.requiresGoggles());
         assertEquals(NamedTextColor.LIGHT_PURPLE, CollectibleTier.EVENT.getColor());
     }
+
+    @Test
+    @DisplayName("Tier bits are distinct and combine to ALL_BITS")
+    void testTierBits() {
+        int combined = 0;
+        for (CollectibleTier tier : CollectibleTier.values()) {
+            assertEquals(0, combined & tier.getBit(), "Bit for " + tier + " overlaps another tier");
+            combined |= tier.getBit();
+        }
+        assertEquals(CollectibleTier.ALL_BITS, combined);
+    }
 }
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -157,4 +158,64 @@ class PlayerProgressTest {
         colProgress.setRewardClaimed(true);
         assertTrue(colProgress.isRewardClaimed());
     }
+
+    @Test
+    @DisplayName("Drained changes hold only what changed since the last drain")
+    void testDrainChanges() {
+        progress.getProgress("collection1").addItemDirect("loaded");
+        assertFalse(progress.hasChanges());
+
+        progress.addItem("collection1", "item1");
+        progress.markComplete("collection2");
+
+        PlayerProgress.Changes changes = progress.drainChanges();
+        assertTrue(changes.totalsChanged());
+        assertEquals(Set.of("item1"), changes.newItems().get("collection1"));
+        assertEquals(1, changes.itemCount());
+        assertTrue(changes.collections().get("collection2").isComplete());
+        assertFalse(progress.hasChanges());
+        assertTrue(progress.drainChanges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Restored changes are written by the next drain")
+    void testRestoreChanges() {
+        progress.addItem("collection1", "item1");
+        PlayerProgress.Changes failed = progress.drainChanges();
+
+        progress.claimReward("collection2");
+        progress.restoreChanges(failed);
+
+        PlayerProgress.Changes retry = progress.drainChanges();
+        assertTrue(retry.totalsChanged());
+        assertEquals(Set.of("item1"), retry.newItems().get("collection1"));
+        assertTrue(retry.collections().get("collection2").isRewardClaimed());
+    }
+
+    @Test
+    @DisplayName("Untracked items and statuses are left out of the drain, totals are not")
+    void testUntrackChanges() {
+        progress.addItem("collection1", "item1");
+        progress.addItem("collection1", "item2");
+        progress.claimReward("collection2");
+
+        progress.untrackItem("collection1", "item1");
+        progress.untrackStatus("collection2");
+
+        PlayerProgress.Changes changes = progress.drainChanges();
+        assertTrue(changes.totalsChanged());
+        assertEquals(Set.of("item2"), changes.newItems().get("collection1"));
+        assertTrue(changes.collections().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Resetting a collection drops its pending changes")
+    void testResetDropsChanges() {
+        progress.addItem("collection1", "item1");
+        PlayerProgress.Changes failed = progress.drainChanges();
+        progress.resetCollection("collection1");
+        progress.restoreChanges(failed);
+
+        assertFalse(progress.drainChanges().newItems().containsKey("collection1"));
+    }
 }
@@ -0,0 +1,114 @@
+package com.blockworlds.collections.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ZoneShape containment.
+ */
+class ZoneShapeTest {
+
+    @Test
+    @DisplayName("Cuboid bounds are inclusive on every axis")
+    void testCuboid() {
+        ZoneShape shape = ZoneShape.cuboid(-10, 10, 40, 80, 0, 20);
+
+        assertTrue(shape.contains(-10, 40, 0));
+        assertTrue(shape.contains(10, 80, 20));
+        assertFalse(shape.contains(11, 60, 10));
+        assertFalse(shape.contains(0, 39, 10));
+        assertFalse(shape.contains(0, 81, 10));
+        assertFalse(shape.contains(0, 60, -1));
+    }
+
+    @Test
+    @DisplayName("Cuboid from bounds ignores Y")
+    void testCuboidFromBounds() {
+        ZoneShape shape = ZoneShape.cuboid(new SpawnZone.Bounds(0, 5, 0, 5));
+
+        assertTrue(shape.contains(3, -64, 3));
+        assertTrue(shape.contains(3, 319, 3));
+        assertEquals(new SpawnZone.Bounds(0, 5, 0, 5), shape.getBounds());
+    }
+
+    @Test
+    @DisplayName("Polygon includes blocks whose centre is inside")
+    void testTriangle() {
+        // Right triangle along the axes with its hypotenuse from (32,0) to (0,32)
+        ZoneShape shape = ZoneShape.polygon(List.of(
+                new int[]{0, 0}, new int[]{32, 0}, new int[]{0, 32}), Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        assertTrue(shape.containsColumn(0, 0));
+        assertTrue(shape.containsColumn(15, 15));
+        assertTrue(shape.containsColumn(30, 0));
+        assertFalse(shape.containsColumn(16, 16));
+        assertFalse(shape.containsColumn(31, 31));
+        assertFalse(shape.containsColumn(-1, 0));
+        assertFalse(shape.containsColumn(32, 0));
+    }
+
+    @Test
+    @DisplayName("Concave polygons exclude the notch")
+    void testConcave() {
+        // U shape: 48 wide, 32 deep, with a 16-wide notch cut from the top
+        ZoneShape shape = ZoneShape.polygon(List.of(
+                new int[]{0, 0}, new int[]{48, 0}, new int[]{48, 32}, new int[]{32, 32},
+                new int[]{32, 16}, new int[]{16, 16}, new int[]{16, 32}, new int[]{0, 32}), 0, 100);
+
+        assertTrue(shape.contains(8, 50, 24));
+        assertTrue(shape.contains(40, 50, 24));
+        assertTrue(shape.contains(24, 50, 8));
+        assertFalse(shape.contains(24, 50, 24));
+        assertFalse(shape.contains(8, 101, 24));
+    }
+
+    @Test
+    @DisplayName("Repeated lookups agree with the first one")
+    void testMaskCaching() {
+        ZoneShape shape = ZoneShape.polygon(List.of(
+                new int[]{-20, -20}, new int[]{20, -20}, new int[]{0, 20}), Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        for (int pass = 0; pass < 2; pass++) {
+            assertTrue(shape.containsColumn(0, 0));
+            assertTrue(shape.containsColumn(-19, -19));
+            assertFalse(shape.containsColumn(-19, 18));
+            assertFalse(shape.containsColumn(0, 20));
+        }
+    }
+
+    @Test
+    @DisplayName("Polygon bounds cover its blocks")
+    void testPolygonBounds() {
+        ZoneShape shape = ZoneShape.polygon(List.of(
+                new int[]{-16, 4}, new int[]{16, 4}, new int[]{0, 36}), 10, 20);
+
+        assertEquals(new SpawnZone.Bounds(-16, 15, 4, 35), shape.getBounds());
+        assertEquals(10, shape.getMinY());
+        assertEquals(20, shape.getMaxY());
+    }
+
+    @Test
+    @DisplayName("Y-limited cuboid narrows a surface search to its Y range")
+    void testClampY() {
+        ZoneShape shape = ZoneShape.cuboid(0, 15, 10, 20, 0, 15);
+
+        assertArrayEquals(new int[]{10, 20}, shape.clampY(-64, 319));
+        assertArrayEquals(new int[]{12, 20}, shape.clampY(12, 319));
+        int[] disjoint = shape.clampY(30, 60);
+        assertTrue(disjoint[0] > disjoint[1], "Ranges that don't overlap leave nothing to scan");
+
+        ZoneShape unbounded = ZoneShape.cuboid(new SpawnZone.Bounds(0, 15, 0, 15));
+        assertArrayEquals(new int[]{-64, 319}, unbounded.clampY(-64, 319));
+    }
+
+    @Test
+    @DisplayName("Polygons need at least three points")
+    void testTooFewPoints() {
+        assertThrows(IllegalArgumentException.class, () ->
+                ZoneShape.polygon(List.of(new int[]{0, 0}, new int[]{1, 1}), 0, 1));
+    }
+}
@@ -0,0 +1,96 @@
+package com.blockworlds.collections.storage;
+
+import com.blockworlds.collections.model.Collectible;
+import com.blockworlds.collections.model.CollectibleTier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CollectibleWrites coalescing.
+ */
+class CollectibleWritesTest {
+
+    private static Collectible collectible(String zoneId) {
+        return new Collectible(UUID.randomUUID(), null, zoneId, "collection", "item",
+                null, CollectibleTier.COMMON, 0L, true);
+    }
+
+    @Test
+    @DisplayName("Removing a queued save drops both")
+    void testSaveThenRemove() {
+        CollectibleWrites writes = new CollectibleWrites();
+        Collectible spawned = collectible("forest");
+
+        writes.save(spawned);
+        writes.remove(spawned.id(), "forest");
+
+        assertTrue(writes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Removing a stored collectible queues a delete")
+    void testRemoveStored() {
+        CollectibleWrites writes = new CollectibleWrites();
+        UUID stored = UUID.randomUUID();
+
+        writes.remove(stored, "forest");
+
+        assertEquals(Set.of(stored), writes.getRemovals());
+        assertEquals(1, writes.size());
+    }
+
+    @Test
+    @DisplayName("Zone clear absorbs queued writes in that zone only")
+    void testZoneClear() {
+        CollectibleWrites writes = new CollectibleWrites();
+        Collectible forest = collectible("forest");
+        Collectible desert = collectible("desert");
+        writes.save(forest);
+        writes.save(desert);
+        writes.remove(UUID.randomUUID(), "forest");
+
+        writes.clear("forest");
+
+        assertEquals(Set.of("forest"), writes.getClearedZones());
+        assertEquals(Set.of(desert.id()), writes.getSaves().keySet());
+        assertTrue(writes.getRemovals().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Clear all replaces every queued write")
+    void testClearAll() {
+        CollectibleWrites writes = new CollectibleWrites();
+        writes.save(collectible("forest"));
+        writes.clear("desert");
+
+        writes.clear(null);
+
+        assertTrue(writes.isClearAll());
+        assertTrue(writes.getClearedZones().isEmpty());
+        assertTrue(writes.getSaves().isEmpty());
+        assertEquals(1, writes.size());
+    }
+
+    @Test
+    @DisplayName("Failed writes are requeued unless a newer clear covers them")
+    void testAbsorbOlder() {
+        CollectibleWrites older = new CollectibleWrites();
+        Collectible forest = collectible("forest");
+        Collectible desert = collectible("desert");
+        older.save(forest);
+        older.save(desert);
+        older.clear("swamp");
+
+        CollectibleWrites newer = new CollectibleWrites();
+        newer.clear("forest");
+        newer.absorbOlder(older);
+
+        assertEquals(Set.of("forest", "swamp"), newer.getClearedZones());
+        assertEquals(Set.of(desert.id()), newer.getSaves().keySet());
+    }
+}
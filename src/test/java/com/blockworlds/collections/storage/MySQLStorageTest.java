@@ -0,0 +1,197 @@
+package com.blockworlds.collections.storage;
+
+import com.blockworlds.collections.Collections;
+import com.blockworlds.collections.model.Collectible;
+import com.blockworlds.collections.model.CollectibleTier;
+import com.blockworlds.collections.model.PlayerProgress;
+import com.blockworlds.collections.util.ChunkIndex;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.*;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the MySQL storage backend, run against an embedded H2 database in MySQL mode.
+ */
+class MySQLStorageTest {
+
+    private static ServerMock server;
+    private static Collections plugin;
+    private static MySQLStorage storage;
+
+    @BeforeAll
+    static void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.load(Collections.class);
+        storage = new MySQLStorage(plugin,
+                "jdbc:h2:mem:collections;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        storage.initialize();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        storage.shutdown();
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("Saved progress loads back")
+    void testSaveLoad() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerProgress progress = new PlayerProgress(playerId);
+        progress.addItem("forest", "acorn");
+        progress.markComplete("forest");
+        storage.savePlayer(progress).get(5, TimeUnit.SECONDS);
+
+        PlayerProgress loaded = storage.loadPlayer(playerId).get(5, TimeUnit.SECONDS);
+        assertTrue(loaded.hasItem("forest", "acorn"));
+        assertTrue(loaded.hasCompleted("forest"));
+        assertEquals(1, loaded.getTotalCollectiblesCollected());
+    }
+
+    @Test
+    @DisplayName("Batched writes update existing rows and skip duplicate items")
+    void testBatchUpsert() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerWrites first = new PlayerWrites(playerId);
+        first.addItem("forest", "acorn");
+        first.setStatus("forest", new PlayerWrites.CollectionStatus(true, false, 100));
+        storage.saveBatch(List.of(first)).get(5, TimeUnit.SECONDS);
+
+        PlayerWrites second = new PlayerWrites(playerId);
+        second.addItem("forest", "acorn");
+        second.setStatus("forest", new PlayerWrites.CollectionStatus(true, true, 100));
+        storage.saveBatch(List.of(second)).get(5, TimeUnit.SECONDS);
+
+        PlayerProgress loaded = storage.loadPlayer(playerId).get(5, TimeUnit.SECONDS);
+        assertEquals(1, loaded.getCollectedCount("forest"));
+        assertTrue(loaded.hasClaimedReward("forest"));
+    }
+
+    @Test
+    @DisplayName("Concurrent batches introducing the same new item agree on its bit")
+    void testConcurrentNewItem() throws Exception {
+        for (int round = 0; round < 10; round++) {
+            String collection = "race_" + round;
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+
+            PlayerWrites a = new PlayerWrites(first);
+            a.addItem(collection, "shell");
+            a.addItem(collection, "pebble");
+            PlayerWrites b = new PlayerWrites(second);
+            b.addItem(collection, "shell");
+
+            CompletableFuture.allOf(storage.saveBatch(List.of(a)), storage.saveBatch(List.of(b)))
+                    .get(15, TimeUnit.SECONDS);
+
+            PlayerProgress loadedFirst = storage.loadPlayer(first).get(5, TimeUnit.SECONDS);
+            PlayerProgress loadedSecond = storage.loadPlayer(second).get(5, TimeUnit.SECONDS);
+            assertEquals(Set.of("shell", "pebble"), loadedFirst.getProgress(collection).getCollectedItems());
+            assertEquals(Set.of("shell"), loadedSecond.getProgress(collection).getCollectedItems());
+        }
+    }
+
+    @Test
+    @DisplayName("Collectibles load by chunk, count by zone and clear by zone")
+    void testCollectibles() throws Exception {
+        World world = server.addSimpleWorld("mysql_world");
+        Collectible forest = new Collectible(UUID.randomUUID(), null, "forest", "collection", "item",
+                new Location(world, -20, 64, 5), CollectibleTier.COMMON, System.currentTimeMillis(), false);
+        Collectible desert = new Collectible(UUID.randomUUID(), null, "desert", "collection", "item",
+                new Location(world, -25, 64, 10), CollectibleTier.RARE, System.currentTimeMillis(), false);
+
+        CollectibleWrites saves = new CollectibleWrites();
+        saves.save(forest);
+        saves.save(desert);
+        storage.saveCollectibleBatch(saves).get(5, TimeUnit.SECONDS);
+
+        List<Long> chunk = List.of(ChunkIndex.chunkKey(-2, 0));
+        assertEquals(2, storage.loadCollectiblesInChunks(world.getName(), chunk).get(5, TimeUnit.SECONDS).size());
+        assertEquals(Map.of("forest", 1, "desert", 1), storage.countCollectiblesByZone(0).get(5, TimeUnit.SECONDS));
+        assertTrue(storage.countCollectiblesByZone(desert.spawnedAt() + 1000).get(5, TimeUnit.SECONDS).isEmpty());
+
+        CollectibleWrites clear = new CollectibleWrites();
+        clear.clear("forest");
+        storage.saveCollectibleBatch(clear).get(5, TimeUnit.SECONDS);
+
+        List<Collectible> remaining = storage.loadCollectiblesInChunks(world.getName(), chunk).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(desert.id()), remaining.stream().map(Collectible::id).toList());
+        assertEquals(Map.of("desert", 1), storage.countCollectiblesByZone(0).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Resetting a player removes their progress")
+    void testResetPlayer() throws Exception {
+        UUID playerId = UUID.randomUUID();
+        PlayerProgress progress = new PlayerProgress(playerId);
+        progress.addItem("forest", "acorn");
+        storage.savePlayer(progress).get(5, TimeUnit.SECONDS);
+
+        storage.resetPlayer(playerId).get(5, TimeUnit.SECONDS);
+
+        PlayerProgress loaded = storage.loadPlayer(playerId).get(5, TimeUnit.SECONDS);
+        assertFalse(loaded.hasItem("forest", "acorn"));
+        assertEquals(0, loaded.getTotalCollectiblesCollected());
+    }
+
+    @Test
+    @DisplayName("Progress in the old text-UUID tables migrates to bitset rows")
+    void testLegacyMigration() throws Exception {
+        String url = "jdbc:h2:mem:collections_legacy;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        UUID playerId = UUID.randomUUID();
+        UUID offline = UUID.randomUUID();
+        try (Connection conn = DriverManager.getConnection(url, "sa", "");
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE players (uuid VARCHAR(36) PRIMARY KEY, total_collectibles_collected INT, "
+                    + "total_collections_completed INT, first_collection_date BIGINT, last_activity_date BIGINT)");
+            stmt.execute("CREATE TABLE collection_progress (uuid VARCHAR(36), collection_id VARCHAR(64), "
+                    + "reward_claimed BOOLEAN, completed_date BIGINT, PRIMARY KEY (uuid, collection_id))");
+            stmt.execute("CREATE TABLE collected_items (uuid VARCHAR(36), collection_id VARCHAR(64), "
+                    + "item_id VARCHAR(64), collected_date BIGINT, PRIMARY KEY (uuid, collection_id, item_id))");
+            stmt.execute("INSERT INTO players VALUES ('" + playerId + "', 3, 1, 10, 20)");
+            stmt.execute("INSERT INTO collection_progress VALUES ('" + playerId + "', 'forest', TRUE, 15)");
+            stmt.execute("INSERT INTO collected_items VALUES ('" + playerId + "', 'forest', 'acorn', 10), "
+                    + "('" + playerId + "', 'forest', 'pinecone', 11), ('" + playerId + "', 'desert', 'cactus', 12)");
+            stmt.execute("INSERT INTO collected_items VALUES ('" + offline + "', 'desert', 'cactus', 13)");
+        }
+
+        MySQLStorage legacy = new MySQLStorage(plugin, url, "sa", "");
+        legacy.initialize();
+        try {
+            PlayerProgress loaded = legacy.loadPlayer(playerId).get(5, TimeUnit.SECONDS);
+            assertEquals(3, loaded.getTotalCollectiblesCollected());
+            assertEquals(2, loaded.getCollectedCount("forest"));
+            assertTrue(loaded.hasItem("desert", "cactus"));
+            assertTrue(loaded.hasCompleted("forest"));
+            assertTrue(loaded.hasClaimedReward("forest"));
+            assertFalse(loaded.hasCompleted("desert"));
+
+            // The background copy reaches players who never loaded, then records the version
+            legacy.getLegacyMigration().get(10, TimeUnit.SECONDS);
+            assertTrue(legacy.loadPlayer(offline).get(5, TimeUnit.SECONDS).hasItem("desert", "cactus"));
+            try (Connection conn = DriverManager.getConnection(url, "sa", "");
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version")) {
+                assertTrue(rs.next());
+                assertEquals(2, rs.getInt(1));
+            }
+        } finally {
+            legacy.shutdown();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.blockworlds.collections.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PlayerWrites coalescing.
+ */
+class PlayerWritesTest {
+
+    @Test
+    @DisplayName("Duplicate items are queued once")
+    void testItemCoalescing() {
+        PlayerWrites writes = new PlayerWrites(UUID.randomUUID());
+
+        assertTrue(writes.addItem("forest", "acorn"));
+        assertFalse(writes.addItem("forest", "acorn"));
+        assertTrue(writes.addItem("forest", "pinecone"));
+
+        assertEquals(Set.of("acorn", "pinecone"), writes.getItems().get("forest"));
+        assertEquals(2, writes.size());
+    }
+
+    @Test
+    @DisplayName("Latest status replaces the queued one")
+    void testStatusCoalescing() {
+        PlayerWrites writes = new PlayerWrites(UUID.randomUUID());
+
+        assertTrue(writes.setStatus("forest", new PlayerWrites.CollectionStatus(true, false, 100)));
+        assertFalse(writes.setStatus("forest", new PlayerWrites.CollectionStatus(true, true, 100)));
+
+        assertTrue(writes.getStatuses().get("forest").rewardClaimed());
+        assertEquals(1, writes.size());
+    }
+
+    @Test
+    @DisplayName("Absorbing older writes keeps newer statuses")
+    void testAbsorbOlder() {
+        UUID playerId = UUID.randomUUID();
+        PlayerWrites older = new PlayerWrites(playerId);
+        older.addItem("forest", "acorn");
+        older.setStatus("forest", new PlayerWrites.CollectionStatus(true, false, 100));
+        older.setStatus("ocean", new PlayerWrites.CollectionStatus(true, false, 50));
+
+        PlayerWrites newer = new PlayerWrites(playerId);
+        newer.addItem("forest", "pinecone");
+        newer.setStatus("forest", new PlayerWrites.CollectionStatus(true, true, 100));
+
+        newer.absorbOlder(older);
+
+        assertEquals(Set.of("acorn", "pinecone"), newer.getItems().get("forest"));
+        assertTrue(newer.getStatuses().get("forest").rewardClaimed());
+        assertNotNull(newer.getStatuses().get("ocean"));
+        assertEquals(4, newer.size());
+    }
+
+    @Test
+    @DisplayName("Removing a collection drops its items and status")
+    void testRemoveCollection() {
+        PlayerWrites writes = new PlayerWrites(UUID.randomUUID());
+        writes.addItem("forest", "acorn");
+        writes.setStatus("forest", new PlayerWrites.CollectionStatus(true, false, 100));
+
+        writes.removeCollection("forest");
+
+        assertTrue(writes.isEmpty());
+        assertEquals(0, writes.size());
+    }
+}
@@ -0,0 +1,124 @@
+package com.blockworlds.collections.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ChunkIndex.
+ */
+class ChunkIndexTest {
+
+    @Test
+    @DisplayName("Block coordinates map to the containing chunk")
+    void testToChunk() {
+        assertEquals(0, ChunkIndex.toChunk(0));
+        assertEquals(0, ChunkIndex.toChunk(15.9));
+        assertEquals(1, ChunkIndex.toChunk(16));
+        assertEquals(-1, ChunkIndex.toChunk(-0.5));
+        assertEquals(-1, ChunkIndex.toChunk(-16));
+        assertEquals(-2, ChunkIndex.toChunk(-16.5));
+    }
+
+    @Test
+    @DisplayName("Chunk keys are unique per coordinate pair")
+    void testChunkKey() {
+        assertNotEquals(ChunkIndex.chunkKey(1, 2), ChunkIndex.chunkKey(2, 1));
+        assertNotEquals(ChunkIndex.chunkKey(-1, 0), ChunkIndex.chunkKey(0, -1));
+        assertEquals(ChunkIndex.chunkKey(-5, 7), ChunkIndex.chunkKey(-5, 7));
+    }
+
+    @Test
+    @DisplayName("Added IDs are found in their chunk only")
+    void testAddAndGet() {
+        ChunkIndex index = new ChunkIndex();
+        UUID id = UUID.randomUUID();
+
+        index.addAtBlock("world", 20.5, -3.2, id);
+
+        assertTrue(index.get("world", 1, -1).contains(id));
+        assertTrue(index.isOccupied("world", 1, -1));
+        assertFalse(index.isOccupied("world", 1, 0));
+        assertFalse(index.isOccupied("world_nether", 1, -1));
+        assertTrue(index.get("world_nether", 1, -1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Removing the last ID frees the chunk")
+    void testRemove() {
+        ChunkIndex index = new ChunkIndex();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        index.addAtChunk("world", 0, 0, first);
+        index.addAtChunk("world", 0, 0, second);
+        assertEquals(1, index.getOccupiedChunkCount());
+
+        index.removeAtChunk("world", 0, 0, first);
+        assertTrue(index.isOccupied("world", 0, 0));
+        assertFalse(index.get("world", 0, 0).contains(first));
+
+        index.removeAtChunk("world", 0, 0, second);
+        assertFalse(index.isOccupied("world", 0, 0));
+        assertEquals(0, index.getOccupiedChunkCount());
+    }
+
+    @Test
+    @DisplayName("Adds racing removes in the same chunk are never lost")
+    void testConcurrentAddRemove() throws Exception {
+        ChunkIndex index = new ChunkIndex();
+        UUID kept = UUID.randomUUID();
+
+        Thread churn = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                UUID id = UUID.randomUUID();
+                index.addAtChunk("world", 0, 0, id);
+                index.removeAtChunk("world", 0, 0, id);
+            }
+        });
+        churn.start();
+        for (int i = 0; i < 100_000; i++) {
+            index.addAtChunk("world", 0, 0, kept);
+            assertTrue(index.get("world", 0, 0).contains(kept));
+            index.removeAtChunk("world", 0, 0, kept);
+        }
+        churn.join();
+
+        index.addAtChunk("world", 0, 0, kept);
+        assertTrue(index.get("world", 0, 0).contains(kept));
+    }
+
+    @Test
+    @DisplayName("forEachInWorld visits every ID in the world only")
+    void testForEachInWorld() {
+        ChunkIndex index = new ChunkIndex();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        index.addAtChunk("world", 0, 0, first);
+        index.addAtChunk("world", -3, 7, second);
+        index.addAtChunk("world_nether", 0, 0, UUID.randomUUID());
+
+        Set<UUID> visited = new HashSet<>();
+        index.forEachInWorld("world", visited::add);
+
+        assertEquals(Set.of(first, second), visited);
+        index.forEachInWorld("world_the_end", id -> fail("Unexpected ID " + id));
+    }
+
+    @Test
+    @DisplayName("Clear empties the index")
+    void testClear() {
+        ChunkIndex index = new ChunkIndex();
+        index.addAtChunk("world", 0, 0, UUID.randomUUID());
+        index.addAtChunk("world", 5, 5, UUID.randomUUID());
+
+        index.clear();
+
+        assertEquals(0, index.getOccupiedChunkCount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.blockworlds.collections.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for IntervalTree.
+ */
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("Query returns every range containing the point")
+    void testQuery() {
+        IntervalTree<String> tree = new IntervalTree<>(List.of(
+                new IntervalTree.Entry<>(0, 10, "a"),
+                new IntervalTree.Entry<>(5, 15, "b"),
+                new IntervalTree.Entry<>(20, 30, "c"),
+                new IntervalTree.Entry<>(-100, 100, "d")
+        ));
+
+        assertEquals(Set.of("a", "d"), new HashSet<>(tree.query(0)));
+        assertEquals(Set.of("a", "b", "d"), new HashSet<>(tree.query(10)));
+        assertEquals(Set.of("d"), new HashSet<>(tree.query(17)));
+        assertEquals(Set.of("c", "d"), new HashSet<>(tree.query(30)));
+        assertTrue(tree.query(101).isEmpty());
+        assertEquals(4, tree.size());
+    }
+
+    @Test
+    @DisplayName("Empty tree matches nothing")
+    void testEmpty() {
+        IntervalTree<String> tree = new IntervalTree<>(List.of());
+
+        assertTrue(tree.query(0).isEmpty());
+        assertEquals(0, tree.size());
+    }
+
+    @Test
+    @DisplayName("Unbounded ranges do not overflow")
+    void testExtremeRanges() {
+        IntervalTree<String> tree = new IntervalTree<>(List.of(
+                new IntervalTree.Entry<>(Integer.MIN_VALUE, Integer.MAX_VALUE, "all"),
+                new IntervalTree.Entry<>(Integer.MIN_VALUE, 0, "negative")
+        ));
+
+        assertEquals(Set.of("all", "negative"), new HashSet<>(tree.query(Integer.MIN_VALUE)));
+        assertEquals(Set.of("all"), new HashSet<>(tree.query(Integer.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("Matches a linear scan on random ranges")
+    void testAgainstLinearScan() {
+        Random random = new Random(42);
+        List<IntervalTree.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int min = random.nextInt(2000) - 1000;
+            entries.add(new IntervalTree.Entry<>(min, min + random.nextInt(300), i));
+        }
+        IntervalTree<Integer> tree = new IntervalTree<>(entries);
+
+        for (int point = -1100; point <= 1400; point += 7) {
+            Set<Integer> expected = new HashSet<>();
+            for (IntervalTree.Entry<Integer> entry : entries) {
+                if (entry.min() <= point && point <= entry.max()) {
+                    expected.add(entry.value());
+                }
+            }
+            assertEquals(expected, new HashSet<>(tree.query(point)), "point " + point);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.blockworlds.collections.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for RayBox intersection.
+ */
+class RayBoxTest {
+
+    @Test
+    @DisplayName("Ray pointing at a box hits its near face")
+    void testHit() {
+        double t = RayBox.intersect(0, 0.5, 0, 1, 0, 0, 2, 0, -0.5, 3, 1.5, 0.5);
+        assertEquals(2.0, t, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Ray pointing away from a box misses")
+    void testBehind() {
+        double t = RayBox.intersect(0, 0.5, 0, -1, 0, 0, 2, 0, -0.5, 3, 1.5, 0.5);
+        assertEquals(RayBox.MISS, t);
+    }
+
+    @Test
+    @DisplayName("Ray passing beside a box misses")
+    void testBeside() {
+        double t = RayBox.intersect(0, 0.5, 2, 1, 0, 0, 2, 0, -0.5, 3, 1.5, 0.5);
+        assertEquals(RayBox.MISS, t);
+    }
+
+    @Test
+    @DisplayName("Ray starting inside a box hits at zero")
+    void testInside() {
+        double t = RayBox.intersect(2.5, 0.5, 0, 0, 1, 0, 2, 0, -0.5, 3, 1.5, 0.5);
+        assertEquals(0.0, t, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Diagonal ray from above hits the top face")
+    void testDiagonal() {
+        // Looking down at 45 degrees from (0, 3, 0) toward +X
+        double t = RayBox.intersect(0, 3, 0, 1, -1, 0, 1, 0, -0.5, 2, 1.5, 0.5);
+        assertNotEquals(RayBox.MISS, t);
+        assertEquals(1.5, 3 - t, 1e-9);
+    }
+}